@@ -9,12 +9,16 @@ import io.mangoo.cache.CacheProvider;
 import io.mangoo.constants.*;
 import io.mangoo.core.Application;
 import io.mangoo.core.Config;
+import io.mangoo.core.Connector;
 import io.mangoo.exceptions.MangooJwtException;
 import io.mangoo.filters.AdminFilter;
 import io.mangoo.filters.CsrfFilter;
 import io.mangoo.models.Metrics;
+import io.mangoo.routing.Limiter;
 import io.mangoo.routing.Response;
+import io.mangoo.routing.Router;
 import io.mangoo.routing.bindings.Form;
+import io.mangoo.routing.routes.RequestRoute;
 import io.mangoo.scheduler.Scheduler;
 import io.mangoo.utils.CommonUtils;
 import io.mangoo.utils.DateUtils;
@@ -26,8 +30,10 @@ import jakarta.inject.Inject;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.util.Strings;
 
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -81,10 +87,19 @@ public class AdminController {
                     .render("minRequestTime", metrics.getMinRequestTime())
                     .render("avgRequestTime", metrics.getAvgRequestTime())
                     .render("maxRequestTime", metrics.getMaxRequestTime())
+                    .render("virtualTasks", metrics.getVirtualTasks())
+                    .render("virtualTasksTotal", metrics.getVirtualTasksTotal())
+                    .render("pinnedVirtualThreads", metrics.getPinnedVirtualThreads())
+                    .render("coalescedRequests", metrics.getCoalescedRequests())
+                    .render("shedRequests", metrics.getShedRequests())
+                    .render("concurrencyLimit", Application.getInstance(Limiter.class).getLimit())
+                    .render("timeouts", getTimeouts(metrics))
                     .render("errorRate", errorRate)
                     .render("mode", Application.getMode())
                     .render("events", stream.getHandledEvents())
                     .render("subscribers", stream.getNumberOfSubscribers())
+                    .render("routes", getRoutes())
+                    .render("connector", Application.getInstance(Connector.class).getSettings())
                     .template(Template.adminPath());
         }
         
@@ -94,17 +109,46 @@ public class AdminController {
                 .render("events", stream.getHandledEvents())
                 .render("subscribers", stream.getNumberOfSubscribers())
                 .render("warnings", cache.get(Key.MANGOOIO_WARNINGS))
+                .render("routes", getRoutes())
+                .render("connector", Application.getInstance(Connector.class).getSettings())
                 .template(Template.adminPath());
     }
 
+    /**
+     * @return All application request routes with their handler chain, ordered by URL
+     */
+    private List<RequestRoute> getRoutes() {
+        return Router.getRequestRoutes()
+                .filter(route -> !route.getUrl().startsWith(ADMIN_INDEX))
+                .sorted(Comparator.comparing(RequestRoute::getUrl))
+                .toList();
+    }
+
+    /**
+     * @return The number of timed out requests per route
+     */
+    private static Map<String, Long> getTimeouts(Metrics metrics) {
+        Map<String, Long> timeouts = new HashMap<>();
+        metrics.getTimeouts().forEach((route, count) -> timeouts.put(route, count.longValue()));
+
+        return timeouts;
+    }
+
     public Response cache() {
         Map<String, CacheStats> statistics = new HashMap<>();
+        Map<String, Long> sizes = new HashMap<>();
+        Map<String, String> memory = new HashMap<>();
         for (Entry<String, Cache> entry : cacheProvider.getCaches().entrySet()) {
-            statistics.put(entry.getKey(), ((CacheImpl) entry.getValue()).getStats()); //NOSONAR
+            var cacheImpl = (CacheImpl) entry.getValue(); //NOSONAR
+            statistics.put(entry.getKey(), cacheImpl.getStats());
+            sizes.put(entry.getKey(), cacheImpl.getSize());
+            cacheImpl.getWeightedSize().ifPresent(size -> memory.put(entry.getKey(), FileUtils.readableFileSize(size)));
         }
         
         return Response.ok()
                 .render("statistics", statistics)
+                .render("sizes", sizes)
+                .render("memory", memory)
                 .template(Template.cachePath());
     }
 
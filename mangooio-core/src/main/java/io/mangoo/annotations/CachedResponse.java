@@ -0,0 +1,32 @@
+package io.mangoo.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD})
+public @interface CachedResponse {
+    /**
+     * Specifies how long a response is cached
+     *
+     * @return The time to live in seconds
+     */
+    long ttl() default 60;
+
+    /**
+     * Specifies the request or query parameters the cached response varies by
+     *
+     * @return The names of the parameters
+     */
+    String[] varyBy() default {};
+
+    /**
+     * Specifies if the cached response varies by the subject of the current authentication.
+     * Always true for routes requiring authentication.
+     *
+     * @return True if the cached response varies by subject, false otherwise
+     */
+    boolean subject() default false;
+}
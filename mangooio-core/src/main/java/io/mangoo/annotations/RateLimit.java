@@ -0,0 +1,34 @@
+package io.mangoo.annotations;
+
+import io.mangoo.enums.RateLimitKey;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface RateLimit {
+    /**
+     * Specifies how many requests are allowed per period
+     *
+     * @return The number of requests
+     */
+    long limit();
+
+    /**
+     * Specifies the period in which the limit is refilled completely
+     *
+     * @return The period in seconds
+     */
+    long period() default 60;
+
+    /**
+     * Specifies what requests are limited by. Falls back to the remote IP
+     * if a request has no valid API key or authenticated subject.
+     *
+     * @return The key of the rate limit
+     */
+    RateLimitKey key() default RateLimitKey.IP;
+}
@@ -4,6 +4,7 @@ import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
 import io.mangoo.constants.Required;
 import io.mangoo.core.Application;
+import io.mangoo.utils.internal.InFlight;
 import jakarta.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -42,7 +43,7 @@ public class EventBus<T> {
     public void publish(T payload) {
         Objects.requireNonNull(payload, Required.PAYLOAD);
 
-        Thread.ofVirtual().start(() -> {
+        InFlight.start(InFlight.EVENTS, () -> {
             String queue = payload.getClass().getCanonicalName();
             try {
                 for (Class<?> subscriber : subscribers.get(queue)) {
@@ -1,5 +1,6 @@
 package io.mangoo.cache;
 
+import com.github.benmanes.caffeine.cache.Policy;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.mangoo.constants.Required;
 
@@ -8,6 +9,7 @@ import java.time.temporal.TemporalUnit;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.OptionalLong;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
@@ -177,4 +179,21 @@ public class CacheImpl implements Cache {
     public CacheStats getStats() {
         return caffeineCache.stats();
     }
+
+    /**
+     * @return The approximate number of entries in the cache
+     */
+    public long getSize() {
+        return caffeineCache.estimatedSize();
+    }
+
+    /**
+     * @return The weighted size of the cache or an empty OptionalLong if the cache is not weighted
+     */
+    public OptionalLong getWeightedSize() {
+        return caffeineCache.policy()
+                .eviction()
+                .map(Policy.Eviction::weightedSize)
+                .orElse(OptionalLong.empty());
+    }
 }
\ No newline at end of file
@@ -4,6 +4,9 @@ public final class CacheName {
     public static final String APPLICATION = "mangooio-application-cache";
     public static final String AUTH = "mangooio-auth-cache";
     public static final String BLACKLIST = "mangooio-auth-blacklist";
+    public static final String CLAIMS = "mangooio-claims-cache";
+    public static final String RESPONSE = "mangooio-response-cache";
+    public static final String SESSIONS = "mangooio-session-store";
 
     private CacheName() {
     }
@@ -12,6 +12,7 @@ public final class Const {
     public static final String CSRF_TOKEN = "x-csrf-token";
     public static final String CONFIG_FILE = "config.yaml";
     public static final String KEYSTORE_FILENAME = "vault.p12";
+    public static final int SESSION_ID_LENGTH = 32;
 
     private Const() {}
 }
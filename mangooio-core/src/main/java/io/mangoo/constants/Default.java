@@ -8,6 +8,7 @@ public final class Default {
     public static final Boolean APPLICATION_ADMIN_ENABLE = Boolean.FALSE;
     public static final String APPLICATION_ADMIN_LOCALE = "en_EN";
     public static final String APPLICATION_CONTROLLER = "controllers.";
+    public static final Boolean APPLICATION_ETAG_ENABLE = Boolean.FALSE;
     public static final String APPLICATION_LANGUAGE = "en";
     public static final String APPLICATION_NAME = "mangooio-application";
     public static final String APPLICATION_TIMEZONE = "UTC";
@@ -21,7 +22,17 @@ public final class Default {
     public static final int AUTHENTICATION_LOCK = 10;
     public static final Boolean AUTHENTICATION_ORIGIN = Boolean.FALSE;
     public static final String BUNDLE_NAME = "translations/messages";
+    public static final int CONNECTOR_BACKLOG = 1000;
+    public static final int CONNECTOR_BUFFER_SIZE = 0;
+    public static final Boolean CONNECTOR_DIRECT_BUFFERS = Boolean.TRUE;
+    public static final Boolean CONNECTOR_HTTP2 = Boolean.FALSE;
     public static final String CONNECTOR_HTTPS_CERTIFICATE_ALIAS = "certificate";
+    public static final long CONNECTOR_IDLE_TIMEOUT = 0;
+    public static final int CONNECTOR_IO_THREADS = 0;
+    public static final long CONNECTOR_KEEPALIVE_TIMEOUT = 60;
+    public static final int CONNECTOR_WORKER_THREADS = 0;
+    public static final boolean COOKIE_CACHE_ENABLE = false;
+    public static final long COOKIE_CACHE_SIZE = 10000;
     public static final String CORS_ALLOW_ORIGIN = "^http(s)?://(www\\.)?example\\.(com|org)$";
     public static final Boolean CORS_ENABLE = Boolean.FALSE;
     public static final Boolean CORS_HEADERS_ALLOW_CREDENTIALS = Boolean.TRUE;
@@ -39,6 +50,11 @@ public final class Default {
     public static final String I18N_COOKIE_NAME = "mangooio-i18n";
     public static final String JAVASCRIPT_FOLDER = "javascript";
     public static final String LANGUAGE = "en";
+    public static final Boolean LIMITER_ENABLE = Boolean.FALSE;
+    public static final int LIMITER_INITIAL = 100;
+    public static final int LIMITER_MAX = 1000;
+    public static final int LIMITER_MIN = 10;
+    public static final int LIMITER_RETRY_AFTER = 1;
     public static final Boolean METRICS_ENABLE = Boolean.FALSE;
     public static final Boolean OTLP_ENABLE = Boolean.FALSE;
     public static final Boolean PERSISTENCE_ENABLE = Boolean.TRUE;
@@ -48,12 +64,20 @@ public final class Default {
     public static final String PERSISTENCE_MONGO_HOST = "localhost";
     public static final int PERSISTENCE_MONGO_PORT = 27017;
     public static final String PERSISTENCE_PREFIX = "persistence.";
+    public static final int RATELIMIT_CAPACITY = 262_144;
+    public static final String RATELIMIT_KEY = "ip";
+    public static final long RATELIMIT_LIMIT = 100;
+    public static final long RATELIMIT_PERIOD = 60;
     public static final Boolean SCHEDULER_ENABLE = Boolean.TRUE;
     public static final Boolean SESSION_COOKIE_EXPIRES = Boolean.FALSE;
+    public static final String SESSION_COOKIE_FORMAT = "jwt";
     public static final String SESSION_COOKIE_NAME = "mangooio-session";
     public static final String SESSION_COOKIE_SAME_SITE_MODE = "Strict";
     public static final Boolean SESSION_COOKIE_SECURE = Boolean.FALSE;
     public static final long SESSION_COOKIE_TOKEN_EXPIRES = 3600;
+    public static final String SESSION_STORE_MODE = "cookie";
+    public static final long SESSION_STORE_NEAR_CACHE = 5;
+    public static final long SESSION_STORE_SIZE = 100_000;
     public static final Boolean SMTP_AUTHENTICATION = Boolean.FALSE;
     public static final Boolean SMTP_DEBUG = Boolean.FALSE;
     public static final String SMTP_FROM = "mangoo <noreply@mangoo.local>";
@@ -61,9 +85,13 @@ public final class Default {
     public static final int SMTP_PORT = 25;
     public static final String SMTP_PROTOCOL = "smtps";
     public static final String STYLESHEET_FOLDER = "stylesheet";
+    public static final String UNDERTOW_DISPATCH = "worker";
+    public static final long UNDERTOW_DRAIN_TIMEOUT = 30;
+    public static final long UNDERTOW_FILE_SIZE_THRESHOLD = 65536L;
     public static final long UNDERTOW_MAX_ENTITY_SIZE = 4194304L;
     public static final int UNDERTOW_MAX_HEADER_SIZE = 8192;
     public static final int UNDERTOW_MAX_PARAMETERS = 1000;
+    public static final long UNDERTOW_TIMEOUT = 0;
 
     private static final Map<String, String> messages = new HashMap<>();
 
@@ -8,9 +8,17 @@ public final class Header {
     public static final HttpString CONTENT_TYPE = new HttpString("Content-Type");
     public static final HttpString COOKIE = new HttpString("Cookie");
     public static final HttpString AUTHORIZATION = new HttpString("Authorization");
+    public static final HttpString ETAG = new HttpString("ETag");
     public static final HttpString FEATURE_POLICY = new HttpString("Feature-Policy");
+    public static final HttpString IF_MODIFIED_SINCE = new HttpString("If-Modified-Since");
+    public static final HttpString IF_NONE_MATCH = new HttpString("If-None-Match");
+    public static final HttpString LAST_MODIFIED = new HttpString("Last-Modified");
     public static final HttpString LOCATION = new HttpString("Location");
+    public static final HttpString RATELIMIT_LIMIT = new HttpString("RateLimit-Limit");
+    public static final HttpString RATELIMIT_REMAINING = new HttpString("RateLimit-Remaining");
+    public static final HttpString RATELIMIT_RESET = new HttpString("RateLimit-Reset");
     public static final HttpString REFERER_POLICY = new HttpString("Referrer-Policy");
+    public static final HttpString RETRY_AFTER = new HttpString("Retry-After");
     public static final HttpString SERVER = new HttpString("Server");
     public static final HttpString X_CONTENT_TYPE_OPTIONS = new HttpString("X-Content-Type-Options");
     public static final HttpString X_FRAME_OPTIONS = new HttpString("X-Frame-Options");
@@ -10,6 +10,7 @@ public final class Key {
     public static final String APPLICATION_API_KEY = "application.api.key";
     public static final String APPLICATION_CONFIG = "application.config";
     public static final String APPLICATION_CONTROLLER = "application.controller";
+    public static final String APPLICATION_ETAG_ENABLE = "application.etag.enable";
     public static final String APPLICATION_LANGUAGE = "application.language";
     public static final String APPLICATION_MODE = "application.mode";
     public static final String APPLICATION_NAME = "application.name";
@@ -32,11 +33,21 @@ public final class Key {
     public static final String AUTHENTICATION_ORIGIN = "authentication.origin";
     public static final String AUTHENTICATION_REDIRECT = "authentication.redirect.login";
     public static final String AUTHENTICATION_REDIRECT_MFA = "authentication.redirect.mfa";
+    public static final String CONNECTOR_BACKLOG = "connector.backlog";
+    public static final String CONNECTOR_BUFFER_SIZE = "connector.buffersize";
+    public static final String CONNECTOR_DIRECT_BUFFERS = "connector.directbuffers";
+    public static final String CONNECTOR_HTTP2 = "connector.http2";
     public static final String CONNECTOR_HTTPS_CERTIFICATE_ALIAS = "connector.https.certificate.alias";
     public static final String CONNECTOR_HTTPS_HOST = "connector.https.host";
     public static final String CONNECTOR_HTTPS_PORT = "connector.https.port";
     public static final String CONNECTOR_HTTP_HOST = "connector.http.host";
     public static final String CONNECTOR_HTTP_PORT = "connector.http.port";
+    public static final String CONNECTOR_IDLE_TIMEOUT = "connector.idletimeout";
+    public static final String CONNECTOR_IO_THREADS = "connector.iothreads";
+    public static final String CONNECTOR_KEEPALIVE_TIMEOUT = "connector.keepalivetimeout";
+    public static final String CONNECTOR_WORKER_THREADS = "connector.workerthreads";
+    public static final String COOKIE_CACHE_ENABLE = "cookie.cache.enable";
+    public static final String COOKIE_CACHE_SIZE = "cookie.cache.size";
     public static final String CORS_ALLOW_ORIGIN = "cors.alloworigin";
     public static final String CORS_ENABLE = "cors.enable";
     public static final String CORS_HEADERS_ALLOW_CREDENTIALS = "cors.headers.allowcredentials";
@@ -49,6 +60,11 @@ public final class Key {
     public static final String FLASH_COOKIE_SECRET = "flash.cookie.secret";
     public static final String FLASH_COOKIE_KEY = "flash.cookie.key";
     public static final String I18N_COOKIE_NAME = "i18n.cookie.name";
+    public static final String LIMITER_ENABLE = "limiter.enable";
+    public static final String LIMITER_INITIAL = "limiter.initial";
+    public static final String LIMITER_MAX = "limiter.max";
+    public static final String LIMITER_MIN = "limiter.min";
+    public static final String LIMITER_RETRY_AFTER = "limiter.retryafter";
     public static final String MANGOOIO_WARNINGS = "MANGOOIO-WARNINGS";
     public static final String METRICS_ENABLE = "metrics.enable";
     public static final String PERSISTENCE_ENABLE = "persistence.enable";
@@ -60,14 +76,23 @@ public final class Key {
     public static final String PERSISTENCE_MONGO_PASSWORD = "mongo.password";
     public static final String PERSISTENCE_MONGO_PORT = "mongo.port";
     public static final String PERSISTENCE_MONGO_USERNAME = "mongo.username";
+    public static final String RATELIMIT_CAPACITY = "ratelimit.capacity";
+    public static final String RATELIMIT_KEY = "ratelimit.key";
+    public static final String RATELIMIT_LIMIT = "ratelimit.limit";
+    public static final String RATELIMIT_PERIOD = "ratelimit.period";
     public static final String SCHEDULER_ENABLE = "scheduler.enable";
     public static final String SESSION_COOKIE_EXPIRES = "session.cookie.expires";
+    public static final String SESSION_COOKIE_FORMAT = "session.cookie.format";
     public static final String SESSION_COOKIE_NAME = "session.cookie.name";
+    public static final String SESSION_COOKIE_PREVIOUS_SECRET = "session.cookie.previoussecret";
     public static final String SESSION_COOKIE_SECRET = "session.cookie.secret";
     public static final String SESSION_COOKIE_KEY = "session.cookie.key";
     public static final String SESSION_COOKIE_SECURE = "session.cookie.secure";
     public static final String SESSION_COOKIE_TOKEN_EXPIRES = "session.cookie.token.expires";
     public static final String SESSION_COOKIE_SAME_SITE_MODE = "session.cookie.samesitemode";
+    public static final String SESSION_STORE_MODE = "session.store.mode";
+    public static final String SESSION_STORE_NEAR_CACHE = "session.store.nearcache";
+    public static final String SESSION_STORE_SIZE = "session.store.size";
     public static final String SMTP_AUTHENTICATION = "smtp.authentication";
     public static final String SMTP_DEBUG = "smtp.debug";
     public static final String SMTP_FROM = "smtp.from";
@@ -76,7 +101,11 @@ public final class Key {
     public static final String SMTP_PORT = "smtp.port";
     public static final String SMTP_PROTOCOL = "smtp.protocol";
     public static final String SMTP_USERNAME = "smtp.username";
+    public static final String UNDERTOW_DISPATCH = "undertow.dispatch";
+    public static final String UNDERTOW_DRAIN_TIMEOUT = "undertow.draintimeout";
+    public static final String UNDERTOW_FILE_SIZE_THRESHOLD = "undertow.filesizethreshold";
     public static final String UNDERTOW_MAX_ENTITY_SIZE = "undertow.maxentitysize";
+    public static final String UNDERTOW_TIMEOUT = "undertow.timeout";
     public static final String OTLP_ENABLE = "otlp.enable";
     public static final String OTLP_ENDPOINT = "otlp.endpoint";
 
@@ -3,12 +3,16 @@ package io.mangoo.constants;
 public final class Required {
     public static final String ACCOUNT_NAME = "account name can not be null or blank"; 
     public static final String ALLOWED_MIME_TYPES = "allowedMimeTypes can not be null or blank"; 
+    public static final String ATTACHMENT = "attachment can not be null";
     public static final String AUDIENCE = "audience can not be null or blank "; 
     public static final String BCCS = "bccs can not be null or blank"; 
+    public static final String BUILDER = "builder can not be null";
     public static final String BYTES = "bytes can not be null or blank"; 
     public static final String CACHE = "cache can not be null"; 
     public static final String CACHE_PROVIDER = "cacheProvider can not be null"; 
     public static final String CCS = "ccs can not be null or blank";
+    public static final String CLAIMS = "claims can not be null";
+    public static final String CLAIMS_CACHE = "claims cache can not be null";
     public static final String CLASS = "class can not be null ";
     public static final String CLEARTEXT = "cleartext can not be null or blank";
     public static final String CONFIG = "config can not be null";
@@ -20,15 +24,22 @@ public final class Required {
     public static final String CONTROLLER_METHOD = "controller method can not be null or blank";
     public static final String CONTROLLER_NAME = "controller name can not be null or blank";
     public static final String COOKIE = "cookie can not be null";
+    public static final String COOKIE_CODECS = "cookie codecs can not be null";
+    public static final String COOKIE_VALUE = "cookie value can not be null";
     public static final String COLLECTION = "collection can not be null or blank";
     public static final String CRON = "cron can not be nul or blank";
     public static final String CSRF = "csrf can not be null or blank";
     public static final String DATA = "data can not be null or blank";
     public static final String DATASTORE = "datastore can not be null";
+    public static final String DISPATCH = "dispatch can not be null";
+    public static final String ETAG = "etag can not be null";
     public static final String ENCRYPTED_TEXT = "encrypted text can not be null or blank";
     public static final String EXPIRES = "expires can not be null or blank";
     public static final String FALLBACK = "fallback can not be null or blank";
+    public static final String FILE = "file can not be null";
+    public static final String FILTERS = "filters can not be null";
     public static final String FROM = "from can not be null or blank";
+    public static final String HANDLER_CHAIN = "handler chain can not be null";
     public static final String HASH = "hash can not be null or blank";
     public static final String HEADER = "header can not be null or blank";
     public static final String HEADERS = "headers can not be null or blank";
@@ -39,6 +50,7 @@ public final class Required {
     public static final String INDEX_OPTIONS = "indexOptions can not be null or blank";
     public static final String INDEXES = "indexes van not be null";
     public static final String INPUT_STREAM = "InputStream can not be null";
+    public static final String INVOKER = "invoker can not be null";
     public static final String ISSUER = "issuer can not be null or blank";
     public static final String JSON = "json can not be null or blank";
     public static final String JWT = "jwt can not be null or blank";
@@ -46,6 +58,7 @@ public final class Required {
     public static final String KEY = "key can not be null or blank";
     public static final String LOCAL_DATE = "localDate can not be null";
     public static final String LOCAL_DATE_TIME = "localDateTime can not be null or blank";
+    public static final String LAST_MODIFIED = "last modified can not be null";
     public static final String LOCALE = "locale can not be null or blank";
     public static final String MAIL = "mail can not be null or blank";
     public static final String MAP = "map can not be null or blank";
@@ -53,43 +66,56 @@ public final class Required {
     public static final String MESSAGES = "messages can not be null or blank";
     public static final String METHOD = "method can not be null or blank";
     public static final String METHOD_PARAMETERS = "method parameters can not be null or blank";
+    public static final String METRICS = "metrics can not be null";
     public static final String MIME_MESSAGE = "mimeMessage can not be null or blank";
     public static final String MODE = "mode can not be null or blank";
     public static final String NAME = "name can not be null or blank";
     public static final String NAMED = "named can not be null or blank";
+    public static final String NEXT_HANDLER = "next handler can not be null";
     public static final String OBJECT = "object can not be null";
     public static final String OBJECTS = "objects can not be null or blank";
     public static final String PART = "part can not be null or blank";
     public static final String PASSWORD = "password can not be null or blank";
     public static final String PATH = "path can not be null or blank";
     public static final String PAYLOAD = "payload can not be null or blank";
+    public static final String PERIOD = "period can not be null";
     public static final String PLAIN_TEXT = "plain text can not be null or blank";
     public static final String PREFIX = "prefix can not be null or blank";
     public static final String PRIORITY = "Priority of 1 through 5 are acceptable, with 1 being the highest priority, 3 = normal and 5 = lowest priority";
+    public static final String PRIORITY_CLASS = "priority class can not be null";
     public static final String PRIVATE_KEY = "private key can not be null or blank";
     public static final String PUBLIC_KEY = "public key can not be null or blank";
     public static final String QUEUE = "queue can not be null or blank";
     public static final String QUERY = "query can not be null or blank";
+    public static final String RATE_LIMIT_KEY = "rate limit key can not be null";
     public static final String REDIRECT_TO = "redirect to can not be null or blank";
     public static final String REPLY_TO = "replyTo can not be null or blank";
     public static final String REQUEST = "request can not be null or blank" ;
     public static final String REQUEST_PARAMETER = "request parameter can not be null or blank";
     public static final String RESOURCE = "resource can not be null or blank";
+    public static final String RUNNABLE = "runnable can not be null";
     public static final String ROUTE = "route can not be null or blank";
     public static final String SALT = "salt can not be null or blank";
     public static final String SECRET = "secret can not be null";
+    public static final String SESSION_DATA = "session data can not be null";
+    public static final String SESSION_STORE = "session store can not be null";
     public static final String SOURCE_PATH = "source path can not be null or blank";
     public static final String SORT = "sort can not be null or blank";
     public static final String STACK_TRACE_ELEMENT = "stack trace element can not be null or blank";
+    public static final String STREAM = "stream can not be null";
+    public static final String STREAM_WRITER = "stream writer can not be null";
     public static final String STRING = "string can not be null or blank";
     public static final String SUBSCRIBER = "subscriber can not be null or blank";
     public static final String SUBJECT = "subject can not be null or blank";
+    public static final String SUPPLIER = "supplier can not be null";
     public static final String TEMPLATE = "template can not be null or blank";
     public static final String TEMPLATE_ENGINE = "template engine can not be null or blank";
     public static final String TEMPLATE_NAME = "template name can not be null or blank";
     public static final String TEMPORAL_UNIT = "temporal unit can not be null or blank";
+    public static final String TIMEOUT = "timeout can not be null";
     public static final String TOS = "tos can not be null or blank";
     public static final String TOTP = "totp can not be null or blank";
+    public static final String TTL = "ttl can not be null";
     public static final String TYPE = "type can not be null or blank";
     public static final String UNIT = "unit can not be null or blank";
     public static final String URI = "uri can not be null or blank";
@@ -98,6 +124,8 @@ public final class Required {
     public static final String VAULT = "vault can not be null or blank";
     public static final String VALUE = "value can not be null or blank";
     public static final String VALUES = "values can not be null or blank";
+    public static final String VARY_BY = "vary by can not be null";
+    public static final String RESPONSE_CACHE = "response cache can not be null";
     public static final String RESPONSE = "response can not be null";
     public static final String PROCESS = "process can not be null or blank";
     public static final String SCOPE = "scope can not be null or blank";
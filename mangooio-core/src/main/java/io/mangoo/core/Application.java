@@ -21,7 +21,12 @@ import io.mangoo.constants.Default;
 import io.mangoo.constants.Key;
 import io.mangoo.constants.Required;
 import io.mangoo.crypto.Vault;
+import io.mangoo.enums.Dispatch;
+import io.mangoo.enums.Http;
 import io.mangoo.enums.Mode;
+import io.mangoo.enums.Priority;
+import io.mangoo.enums.SessionFormat;
+import io.mangoo.enums.SessionStorage;
 import io.mangoo.enums.Sort;
 import io.mangoo.interfaces.MangooBootstrap;
 import io.mangoo.persistence.interfaces.Datastore;
@@ -34,6 +39,7 @@ import io.mangoo.scheduler.CronTask;
 import io.mangoo.scheduler.Schedule;
 import io.mangoo.scheduler.Scheduler;
 import io.mangoo.scheduler.Task;
+import io.mangoo.session.DatastoreSessionStore;
 import io.mangoo.utils.CommonUtils;
 import io.mangoo.utils.PersistenceUtils;
 import io.mangoo.utils.internal.Log4jListener;
@@ -42,11 +48,9 @@ import io.undertow.Handlers;
 import io.undertow.Undertow;
 import io.undertow.UndertowOptions;
 import io.undertow.server.HttpHandler;
-import io.undertow.server.RoutingHandler;
-import io.undertow.server.handlers.PathHandler;
+import io.undertow.server.handlers.GracefulShutdownHandler;
 import io.undertow.server.handlers.resource.ClassPathResourceManager;
 import io.undertow.server.handlers.resource.ResourceHandler;
-import io.undertow.util.Methods;
 import io.undertow.websockets.WebSocketConnectionCallback;
 import org.apache.commons.lang3.RegExUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -94,9 +98,10 @@ public final class Application {
     private static String httpHost;
     private static String httpsHost;
     private static Undertow undertow;
+    private static GracefulShutdownHandler gracefulShutdownHandler;
     private static Mode mode;
     private static Injector injector;
-    private static PathHandler pathHandler;
+    private static TrieRoutingHandler routingHandler;
     private static boolean started;
     private static int httpPort;
     private static int httpsPort;
@@ -137,6 +142,7 @@ public final class Application {
             sanityChecks();
             do {} while (scan.isAlive()); //NOSONAR
             checkDatastore();
+            prepareSessionStore();
             applicationStarted();
             showTimezone();
             showLogo();
@@ -160,6 +166,13 @@ public final class Application {
         }
     }
 
+    private static void prepareSessionStore() {
+        // Creates the TTL index at startup instead of within the first request using a session
+        if (SessionStorage.fromString(getInstance(Config.class).getSessionStoreMode()) == SessionStorage.DATASTORE) {
+            getInstance(DatastoreSessionStore.class);
+        }
+    }
+
     private static void validateUrls() {
         if (!Router.validUrls()) {
             failsafe();
@@ -497,6 +510,29 @@ public final class Application {
         undertow.stop();
     }
 
+    /**
+     * Stops accepting new connections, rejects new requests on open connections
+     * with 503 and waits for all requests in flight to complete
+     *
+     * @param deadline The value of System.nanoTime() until which to wait at most
+     * @return True if all requests in flight completed, false otherwise
+     */
+    public static boolean drainUndertow(long deadline) {
+        if (undertow == null) {
+            return true;
+        }
+
+        undertow.getListenerInfo().forEach(Undertow.ListenerInfo::suspend);
+        gracefulShutdownHandler.shutdown();
+
+        try {
+            return gracefulShutdownHandler.awaitShutdown(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     /**
      * Sets the mode the application is running in
      *
@@ -604,6 +640,31 @@ public final class Application {
             LOG.error("Only 'Strict' or 'Lax' is allowed in authentication.cookie.samesitemode is allowed");
             failsafe();
         }
+
+        if (SessionFormat.fromString(config.getSessionCookieFormat()) == null) {
+            LOG.error("Only 'jwt' or 'compact' is allowed in session.cookie.format");
+            failsafe();
+        }
+
+        var sessionStorage = SessionStorage.fromString(config.getSessionStoreMode());
+        if (sessionStorage == null) {
+            LOG.error("Only 'cookie', 'local' or 'datastore' is allowed in session.store.mode");
+            failsafe();
+        } else if (sessionStorage == SessionStorage.DATASTORE && !config.isPersistenceEnabled()) {
+            LOG.error("session.store.mode 'datastore' requires persistence to be enabled");
+            failsafe();
+        }
+
+        if (Dispatch.fromString(config.getUndertowDispatch()) == null) {
+            LOG.error("Only 'worker' or 'virtual' is allowed in undertow.dispatch");
+            failsafe();
+        }
+
+        List<String> errors = getInstance(Connector.class).getErrors();
+        if (!errors.isEmpty()) {
+            errors.forEach(LOG::error);
+            failsafe();
+        }
     }
 
     /**
@@ -679,6 +740,11 @@ public final class Application {
             LOG.warn(warning);
         }
 
+        getInstance(Connector.class).getWarnings().forEach(warning -> {
+            warnings.add(warning);
+            LOG.warn(warning);
+        });
+
         getInstance(CacheProvider.class)
                 .getCache(CacheName.APPLICATION)
                 .put(Key.MANGOOIO_WARNINGS, warnings);
@@ -716,36 +782,36 @@ public final class Application {
      * Create routes for WebSockets ServerSentEvent and Resource files
      */
     private static void createRoutes() {
-        pathHandler = new PathHandler(getRoutingHandler());
+        routingHandler = getRoutingHandler();
 
         Router.getServerSentEventRoutes().forEach((ServerSentEventRoute serverSentEventRoute) ->
-                pathHandler.addExactPath(serverSentEventRoute.getUrl(),
+                routingHandler.addExactPath(serverSentEventRoute.getUrl(),
                         Handlers.serverSentEvents(getInstance(ServerSentEventHandler.class)
                                 .withAuthentication(serverSentEventRoute.hasAuthentication())))
         );
 
         Router.getWebSocketRoutes().forEach((WebSocketRoute webSocketRoute) -> {
                     Class<? extends WebSocketConnectionCallback> clazz = webSocketRoute.getHandler();
-                    pathHandler.addExactPath(webSocketRoute.getUrl(), Handlers.websocket(getInstance(clazz)));
+                    routingHandler.addExactPath(webSocketRoute.getUrl(), Handlers.websocket(getInstance(clazz)));
                 }
         );
 
         Router.getPathRoutes().forEach((PathRoute pathRoute) ->
-                pathHandler.addPrefixPath(pathRoute.getUrl(),
+                routingHandler.addPrefixPath(pathRoute.getUrl(),
                         new ResourceHandler(new ClassPathResourceManager(Thread.currentThread().getContextClassLoader(), Default.FILES_FOLDER + pathRoute.getUrl())))
         );
 
-        pathHandler.addPrefixPath("/@admin/assets/",
+        routingHandler.addPrefixPath("/@admin/assets/",
                 new ResourceHandler(new ClassPathResourceManager(Thread.currentThread().getContextClassLoader(), "templates/@admin/assets/")));
     }
 
-    private static RoutingHandler getRoutingHandler() {
-        var routingHandler = Handlers.routing();
-        routingHandler.setFallbackHandler(getInstance(FallbackHandler.class));
+    private static TrieRoutingHandler getRoutingHandler() {
+        var trieRoutingHandler = new TrieRoutingHandler(getInstance(FallbackHandler.class));
 
         var config = getInstance(Config.class);
         if (config.isApplicationAdminEnable()) {
             Bind.controller(AdminController.class)
+                    .withPriority(Priority.CRITICAL)
                     .withRoutes(
                             On.get().to("/@admin").respondeWith("index"),
                             On.get().to("/@admin/cache").respondeWith("cache"),
@@ -760,23 +826,18 @@ public final class Application {
         }
 
         Router.getRequestRoutes().forEach((RequestRoute requestRoute) -> {
-            var dispatcherHandler = new DispatcherHandler(
-                    requestRoute.getControllerClass(),
-                    requestRoute.getControllerMethod(),
-                    requestRoute.isBlocking(),
-                    requestRoute.hasAuthentication()
-            );
+            var dispatcherHandler = new DispatcherHandler(requestRoute);
 
-            routingHandler.add(requestRoute.getMethod().toString(), requestRoute.getUrl(), dispatcherHandler);
+            trieRoutingHandler.add(requestRoute.getMethod(), requestRoute.getUrl(), dispatcherHandler);
         });
 
         var resourceHandler = Handlers.resource(new ClassPathResourceManager(
                 Thread.currentThread().getContextClassLoader(),
                 Default.FILES_FOLDER + '/'));
 
-        Router.getFileRoutes().forEach((FileRoute fileRoute) -> routingHandler.add(Methods.GET, fileRoute.getUrl(), resourceHandler));
+        Router.getFileRoutes().forEach((FileRoute fileRoute) -> trieRoutingHandler.add(Http.GET, fileRoute.getUrl(), resourceHandler));
 
-        return routingHandler;
+        return trieRoutingHandler;
     }
 
     private static void prepareUndertow() {
@@ -785,18 +846,21 @@ public final class Application {
 
         HttpHandler httpHandler;
         if (config.isMetricsEnable()) {
-            httpHandler = MetricsHandler.HANDLER_WRAPPER.wrap(Handlers.exceptionHandler(pathHandler)
+            httpHandler = MetricsHandler.HANDLER_WRAPPER.wrap(Handlers.exceptionHandler(routingHandler)
                     .addExceptionHandler(Throwable.class, getInstance(ExceptionHandler.class)));
         } else {
-            httpHandler = Handlers.exceptionHandler(pathHandler)
+            httpHandler = Handlers.exceptionHandler(routingHandler)
                     .addExceptionHandler(Throwable.class, getInstance(ExceptionHandler.class));
         }
 
+        gracefulShutdownHandler = Handlers.gracefulShutdown(httpHandler);
+
         var builder = Undertow.builder()
                 .setServerOption(UndertowOptions.MAX_ENTITY_SIZE, config.getUndertowMaxEntitySize())
                 .setServerOption(UndertowOptions.MAX_PARAMETERS, Default.UNDERTOW_MAX_PARAMETERS)
                 .setServerOption(UndertowOptions.MAX_HEADER_SIZE, Default.UNDERTOW_MAX_HEADER_SIZE)
-                .setHandler(httpHandler);
+                .setHandler(gracefulShutdownHandler);
+        getInstance(Connector.class).apply(builder);
 
         httpHost = config.getConnectorHttpHost();
         httpPort = config.getConnectorHttpPort();
@@ -845,6 +909,10 @@ public final class Application {
             LOG.info("HTTPS connector listening @{}:{}", httpsHost, httpsPort);
         }
 
+        var connector = getInstance(Connector.class);
+        LOG.info("Connectors using {} I/O threads, {} worker threads and {} byte buffers, HTTP/2 {}",
+                connector.getIoThreads(), connector.getWorkerThreads(), connector.getBufferSize(), connector.isHttp2() ? "enabled" : "disabled");
+
         LOG.info("mangoo I/O application started in {} ms in {} mode. Enjoy.", System.currentTimeMillis() - START, mode);
     }
 
@@ -359,6 +359,20 @@ public class Config {
         return isSessionCookieSecure();
     }
 
+    /**
+     * @return cookie.cache.enable or default value if undefined
+     */
+    public boolean isCookieCacheEnable() {
+        return getBoolean(Key.COOKIE_CACHE_ENABLE, Default.COOKIE_CACHE_ENABLE);
+    }
+
+    /**
+     * @return cookie.cache.size or default value if undefined
+     */
+    public long getCookieCacheSize() {
+        return getLong(Key.COOKIE_CACHE_SIZE, Default.COOKIE_CACHE_SIZE);
+    }
+
     /**
      * @return application.language from config.yaml or default value if undefined
      */
@@ -464,6 +478,62 @@ public class Config {
         return getInt(Key.CONNECTOR_HTTPS_PORT, 0);
     }
 
+    /**
+     * @return connector.iothreads or 0 if undefined, which uses the number of available cores
+     */
+    public int getConnectorIoThreads() {
+        return getInt(Key.CONNECTOR_IO_THREADS, Default.CONNECTOR_IO_THREADS);
+    }
+
+    /**
+     * @return connector.workerthreads or 0 if undefined, which uses eight worker threads per I/O thread
+     */
+    public int getConnectorWorkerThreads() {
+        return getInt(Key.CONNECTOR_WORKER_THREADS, Default.CONNECTOR_WORKER_THREADS);
+    }
+
+    /**
+     * @return connector.buffersize in bytes or 0 if undefined, which derives the size from the available memory
+     */
+    public int getConnectorBufferSize() {
+        return getInt(Key.CONNECTOR_BUFFER_SIZE, Default.CONNECTOR_BUFFER_SIZE);
+    }
+
+    /**
+     * @return connector.directbuffers or default value if undefined
+     */
+    public boolean isConnectorDirectBuffers() {
+        return getBoolean(Key.CONNECTOR_DIRECT_BUFFERS, Default.CONNECTOR_DIRECT_BUFFERS);
+    }
+
+    /**
+     * @return connector.backlog or default value if undefined
+     */
+    public int getConnectorBacklog() {
+        return getInt(Key.CONNECTOR_BACKLOG, Default.CONNECTOR_BACKLOG);
+    }
+
+    /**
+     * @return connector.idletimeout in seconds or default value if undefined
+     */
+    public long getConnectorIdleTimeout() {
+        return getLong(Key.CONNECTOR_IDLE_TIMEOUT, Default.CONNECTOR_IDLE_TIMEOUT);
+    }
+
+    /**
+     * @return connector.keepalivetimeout in seconds or default value if undefined
+     */
+    public long getConnectorKeepAliveTimeout() {
+        return getLong(Key.CONNECTOR_KEEPALIVE_TIMEOUT, Default.CONNECTOR_KEEPALIVE_TIMEOUT);
+    }
+
+    /**
+     * @return connector.http2 or default value if undefined
+     */
+    public boolean isConnectorHttp2() {
+        return getBoolean(Key.CONNECTOR_HTTP2, Default.CONNECTOR_HTTP2);
+    }
+
     /**
      * @return metrics.enable or default value if undefined
      */
@@ -478,6 +548,90 @@ public class Config {
         return getInt(Key.AUTHENTICATION_LOCK, Default.AUTHENTICATION_LOCK);
     }
 
+    /**
+     * @return undertow.dispatch or default value if undefined
+     */
+    public String getUndertowDispatch() {
+        return getString(Key.UNDERTOW_DISPATCH, Default.UNDERTOW_DISPATCH);
+    }
+
+    /**
+     * @return limiter.enable or default value if undefined
+     */
+    public boolean isLimiterEnable() {
+        return getBoolean(Key.LIMITER_ENABLE, Default.LIMITER_ENABLE);
+    }
+
+    /**
+     * @return limiter.initial or default value if undefined
+     */
+    public int getLimiterInitial() {
+        return getInt(Key.LIMITER_INITIAL, Default.LIMITER_INITIAL);
+    }
+
+    /**
+     * @return limiter.min or default value if undefined
+     */
+    public int getLimiterMin() {
+        return getInt(Key.LIMITER_MIN, Default.LIMITER_MIN);
+    }
+
+    /**
+     * @return limiter.max or default value if undefined
+     */
+    public int getLimiterMax() {
+        return getInt(Key.LIMITER_MAX, Default.LIMITER_MAX);
+    }
+
+    /**
+     * @return limiter.retryafter or default value if undefined
+     */
+    public int getLimiterRetryAfter() {
+        return getInt(Key.LIMITER_RETRY_AFTER, Default.LIMITER_RETRY_AFTER);
+    }
+
+    /**
+     * @return ratelimit.limit or default value if undefined
+     */
+    public long getRateLimitLimit() {
+        return getLong(Key.RATELIMIT_LIMIT, Default.RATELIMIT_LIMIT);
+    }
+
+    /**
+     * @return ratelimit.period or default value if undefined
+     */
+    public long getRateLimitPeriod() {
+        return getLong(Key.RATELIMIT_PERIOD, Default.RATELIMIT_PERIOD);
+    }
+
+    /**
+     * @return ratelimit.key or default value if undefined
+     */
+    public String getRateLimitKey() {
+        return getString(Key.RATELIMIT_KEY, Default.RATELIMIT_KEY);
+    }
+
+    /**
+     * @return ratelimit.capacity or default value if undefined
+     */
+    public int getRateLimitCapacity() {
+        return getInt(Key.RATELIMIT_CAPACITY, Default.RATELIMIT_CAPACITY);
+    }
+
+    /**
+     * @return undertow.draintimeout in seconds or default value if undefined
+     */
+    public long getUndertowDrainTimeout() {
+        return getLong(Key.UNDERTOW_DRAIN_TIMEOUT, Default.UNDERTOW_DRAIN_TIMEOUT);
+    }
+
+    /**
+     * @return undertow.filesizethreshold or default value if undefined
+     */
+    public long getUndertowFileSizeThreshold() {
+        return getLong(Key.UNDERTOW_FILE_SIZE_THRESHOLD, Default.UNDERTOW_FILE_SIZE_THRESHOLD);
+    }
+
     /**
      * @return undertow.maxentitysize or default value if undefined
      */
@@ -485,6 +639,49 @@ public class Config {
         return getLong(Key.UNDERTOW_MAX_ENTITY_SIZE, Default.UNDERTOW_MAX_ENTITY_SIZE);
     }
 
+    /**
+     * @return undertow.timeout in seconds or default value if undefined
+     */
+    public long getUndertowTimeout() {
+        return getLong(Key.UNDERTOW_TIMEOUT, Default.UNDERTOW_TIMEOUT);
+    }
+
+    /**
+     * @return session.cookie.format or default value if undefined
+     */
+    public String getSessionCookieFormat() {
+        return getString(Key.SESSION_COOKIE_FORMAT, Default.SESSION_COOKIE_FORMAT);
+    }
+
+    /**
+     * @return session.cookie.previoussecret or null if undefined
+     */
+    public byte[] getSessionCookiePreviousSecret() {
+        String secret = getString(Key.SESSION_COOKIE_PREVIOUS_SECRET);
+        return StringUtils.isNotBlank(secret) ? secret.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * @return session.store.mode or default value if undefined
+     */
+    public String getSessionStoreMode() {
+        return getString(Key.SESSION_STORE_MODE, Default.SESSION_STORE_MODE);
+    }
+
+    /**
+     * @return session.store.nearcache in seconds or default value if undefined
+     */
+    public long getSessionStoreNearCache() {
+        return getLong(Key.SESSION_STORE_NEAR_CACHE, Default.SESSION_STORE_NEAR_CACHE);
+    }
+
+    /**
+     * @return session.store.size or default value if undefined
+     */
+    public long getSessionStoreSize() {
+        return getLong(Key.SESSION_STORE_SIZE, Default.SESSION_STORE_SIZE);
+    }
+
     /**
      * @return session.cookie.secret or application secret if undefined
      */
@@ -786,6 +983,13 @@ public class Config {
         return getString(Key.OTLP_ENDPOINT, null);
     }
 
+    /**
+     * @return application.etag.enable or default value if undefined
+     */
+    public boolean isETagEnable() {
+        return getBoolean(Key.APPLICATION_ETAG_ENABLE, Default.APPLICATION_ETAG_ENABLE);
+    }
+
     /**
      * @return application.validation.passthrough
      */
@@ -0,0 +1,247 @@
+package io.mangoo.core;
+
+import io.mangoo.constants.Required;
+import io.mangoo.utils.FileUtils;
+import io.undertow.Undertow;
+import io.undertow.UndertowOptions;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.apache.commons.lang3.StringUtils;
+import org.xnio.Options;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The effective settings of the Undertow connectors, resolved from the connector.* configuration.
+ * Settings that are not configured are derived from the available cores and memory, the same way
+ * Undertow derives its defaults.
+ */
+@Singleton
+public class Connector {
+    private static final long MB = 1024L * 1024L;
+    private static final int MAX_BUFFER_SIZE = 1024 * 1024;
+    private static final int WORKER_THREADS_PER_IO_THREAD = 8;
+    private final List<String> errors = new ArrayList<>();
+    private final List<String> warnings = new ArrayList<>();
+    private final boolean directBuffers;
+    private final boolean http2;
+    private final long idleTimeout;
+    private final long keepAliveTimeout;
+    private final long memory;
+    private final int bufferSize;
+    private final int workerThreads;
+    private final int ioThreads;
+    private final int backlog;
+    private final int cores;
+
+    @Inject
+    public Connector(Config config) {
+        this(config, Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().maxMemory());
+    }
+
+    /**
+     * Resolves the connector settings for a host with the given resources
+     *
+     * @param config The application configuration
+     * @param cores The number of available cores
+     * @param memory The maximum memory in bytes
+     */
+    public Connector(Config config, int cores, long memory) {
+        Objects.requireNonNull(config, Required.CONFIG);
+
+        this.cores = cores;
+        this.memory = memory;
+        this.ioThreads = config.getConnectorIoThreads() > 0 ? config.getConnectorIoThreads() : Math.max(cores, 2);
+        this.workerThreads = config.getConnectorWorkerThreads() > 0 ? config.getConnectorWorkerThreads() : ioThreads * WORKER_THREADS_PER_IO_THREAD;
+        this.bufferSize = config.getConnectorBufferSize() > 0 ? config.getConnectorBufferSize() : getDefaultBufferSize(memory);
+        this.directBuffers = config.isConnectorDirectBuffers();
+        this.backlog = config.getConnectorBacklog();
+        this.idleTimeout = config.getConnectorIdleTimeout();
+        this.keepAliveTimeout = config.getConnectorKeepAliveTimeout();
+        this.http2 = config.isConnectorHttp2();
+
+        validate(config);
+    }
+
+    private static int getDefaultBufferSize(long memory) {
+        if (memory < 64 * MB) {
+            return 512;
+        } else if (memory < 128 * MB) {
+            return 1024;
+        }
+
+        return 16 * 1024 - 20;
+    }
+
+    private void validate(Config config) {
+        notNegative("connector.iothreads", config.getConnectorIoThreads());
+        notNegative("connector.workerthreads", config.getConnectorWorkerThreads());
+        notNegative("connector.buffersize", config.getConnectorBufferSize());
+        notNegative("connector.backlog", backlog);
+        notNegative("connector.idletimeout", idleTimeout);
+        notNegative("connector.keepalivetimeout", keepAliveTimeout);
+
+        if (bufferSize > MAX_BUFFER_SIZE) {
+            errors.add("connector.buffersize is " + bufferSize + " bytes, but must not exceed " + MAX_BUFFER_SIZE + " bytes");
+        }
+
+        long buffers = getBufferMemory();
+        if (buffers > memory) {
+            errors.add("connector buffers need up to " + FileUtils.readableFileSize(buffers) + " for " + ioThreads + " I/O and "
+                    + workerThreads + " worker threads, but only " + FileUtils.readableFileSize(memory) + " memory is available. Reduce connector.buffersize or the number of threads.");
+        } else if (buffers > memory / 4) {
+            warnings.add("connector buffers need up to " + FileUtils.readableFileSize(buffers) + ", which is more than a quarter of the available memory of " + FileUtils.readableFileSize(memory) + ".");
+        }
+
+        if (ioThreads > cores * 2) {
+            warnings.add("connector.iothreads is " + ioThreads + ", but only " + cores + " cores are available. More than two I/O threads per core only add context switches.");
+        }
+
+        if (workerThreads < ioThreads) {
+            warnings.add("connector.workerthreads is " + workerThreads + ", which is less than the " + ioThreads + " I/O threads. Blocking requests will queue up.");
+        }
+
+        if (http2 && (config.getConnectorHttpsPort() <= 0 || StringUtils.isBlank(config.getConnectorHttpsHost()))) {
+            warnings.add("connector.http2 is enabled without an HTTPS connector. Browsers only use HTTP/2 over TLS, plain HTTP only supports the h2c upgrade.");
+        }
+    }
+
+    private void notNegative(String key, long value) {
+        if (value < 0) {
+            errors.add(key + " must not be negative, but is " + value);
+        }
+    }
+
+    /**
+     * Applies the settings to the given Undertow builder. HTTP/2 is enabled via ALPN on the
+     * HTTPS listener and via h2c upgrade on the HTTP listener.
+     *
+     * @param builder The Undertow builder
+     * @return The Undertow builder
+     */
+    public Undertow.Builder apply(Undertow.Builder builder) {
+        Objects.requireNonNull(builder, Required.BUILDER);
+
+        builder.setIoThreads(ioThreads)
+                .setWorkerThreads(workerThreads)
+                .setBufferSize(bufferSize)
+                .setDirectBuffers(directBuffers)
+                .setSocketOption(Options.BACKLOG, backlog)
+                .setServerOption(UndertowOptions.ENABLE_HTTP2, http2);
+
+        if (idleTimeout > 0) {
+            builder.setServerOption(UndertowOptions.IDLE_TIMEOUT, toMillis(idleTimeout));
+        }
+
+        if (keepAliveTimeout > 0) {
+            builder.setServerOption(UndertowOptions.NO_REQUEST_TIMEOUT, toMillis(keepAliveTimeout));
+        }
+
+        return builder;
+    }
+
+    private static int toMillis(long seconds) {
+        return (int) Math.min(TimeUnit.SECONDS.toMillis(seconds), Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return The memory in bytes the buffers of all threads may take up, assuming a read and a write buffer per thread
+     */
+    public long getBufferMemory() {
+        return (long) bufferSize * (ioThreads + workerThreads) * 2;
+    }
+
+    /**
+     * @return The settings that prevent the application from starting
+     */
+    public List<String> getErrors() {
+        return List.copyOf(errors);
+    }
+
+    /**
+     * @return The settings that are valid, but likely not suited for this host
+     */
+    public List<String> getWarnings() {
+        return List.copyOf(warnings);
+    }
+
+    /**
+     * @return The effective settings with a readable name, e.g. for the admin dashboard
+     */
+    public Map<String, String> getSettings() {
+        Map<String, String> settings = new LinkedHashMap<>();
+        settings.put("Available cores", String.valueOf(cores));
+        settings.put("Available memory", FileUtils.readableFileSize(memory));
+        settings.put("I/O threads", String.valueOf(ioThreads));
+        settings.put("Worker threads", String.valueOf(workerThreads));
+        settings.put("Buffer size", bufferSize + " bytes");
+        settings.put("Direct buffers", String.valueOf(directBuffers));
+        settings.put("Backlog", String.valueOf(backlog));
+        settings.put("Idle timeout", idleTimeout > 0 ? idleTimeout + " s" : "none");
+        settings.put("Keep-alive timeout", keepAliveTimeout > 0 ? keepAliveTimeout + " s" : "none");
+        settings.put("HTTP/2", String.valueOf(http2));
+
+        return settings;
+    }
+
+    /**
+     * @return The number of I/O threads
+     */
+    public int getIoThreads() {
+        return ioThreads;
+    }
+
+    /**
+     * @return The number of worker threads
+     */
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    /**
+     * @return The size of a buffer in bytes
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * @return True if buffers are allocated off-heap, false otherwise
+     */
+    public boolean isDirectBuffers() {
+        return directBuffers;
+    }
+
+    /**
+     * @return The maximum number of pending connections
+     */
+    public int getBacklog() {
+        return backlog;
+    }
+
+    /**
+     * @return The time in seconds after which idle connections are closed, 0 if disabled
+     */
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * @return The time in seconds a connection is kept open between requests, 0 if disabled
+     */
+    public long getKeepAliveTimeout() {
+        return keepAliveTimeout;
+    }
+
+    /**
+     * @return True if HTTP/2 is enabled, false otherwise
+     */
+    public boolean isHttp2() {
+        return http2;
+    }
+}
@@ -9,6 +9,8 @@ import io.mangoo.constants.Default;
 import io.mangoo.crypto.Vault;
 import io.mangoo.persistence.DatastoreProvider;
 import io.mangoo.persistence.interfaces.Datastore;
+import io.mangoo.session.SessionStore;
+import io.mangoo.session.SessionStoreProvider;
 
 import java.util.TimeZone;
 
@@ -38,6 +40,7 @@ public class Module extends AbstractModule {
         bind(Config.class).toInstance(config);
         bind(Cache.class).toProvider(CacheProvider.class);
         bind(Datastore.class).toProvider(DatastoreProvider.class);
+        bind(SessionStore.class).toProvider(SessionStoreProvider.class);
     }
 
     public void stopEmbeddedMongoDB() {
@@ -2,7 +2,9 @@ package io.mangoo.core;
 
 import io.mangoo.constants.Header;
 import io.mangoo.constants.Required;
+import io.undertow.util.HeaderMap;
 import io.undertow.util.HttpString;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.util.Strings;
 
 import java.util.HashMap;
@@ -19,6 +21,7 @@ public final class Server {
                 Header.CONTENT_SECURITY_POLICY, Strings.EMPTY,
                 Header.SERVER, "Undertow"
             );
+    private static volatile Precompiled precompiled = Precompiled.of(headers);
     
     private Server() {
     }
@@ -26,6 +29,20 @@ public final class Server {
     public static Map<HttpString, String> headers() {
         return headers;
     }
+
+    /**
+     * Adds all global server headers with a non-blank value to the given response headers
+     *
+     * @param responseHeaders The response headers of the current exchange
+     */
+    public static void addHeaders(HeaderMap responseHeaders) {
+        Objects.requireNonNull(responseHeaders, Required.HEADERS);
+
+        var current = precompiled;
+        for (var i = 0; i < current.names().length; i++) {
+            responseHeaders.add(current.names()[i], current.values()[i]);
+        }
+    }
     
     /**
      * Sets a custom header that is used globally on server responses
@@ -39,5 +56,28 @@ public final class Server {
         Map<HttpString, String> newHeaders = new HashMap<>(headers);
         newHeaders.put(header, value);
         headers = newHeaders;
+        precompiled = Precompiled.of(newHeaders);
+    }
+
+    /**
+     * The global server headers with a non-blank value, held in arrays to add them without
+     * iterating a map on every response
+     */
+    private record Precompiled(HttpString[] names, String[] values) {
+        private static Precompiled of(Map<HttpString, String> headers) {
+            var entries = headers.entrySet()
+                    .stream()
+                    .filter(entry -> StringUtils.isNotBlank(entry.getValue()))
+                    .toList();
+
+            var names = new HttpString[entries.size()];
+            var values = new String[entries.size()];
+            for (var i = 0; i < entries.size(); i++) {
+                names[i] = entries.get(i).getKey();
+                values[i] = entries.get(i).getValue();
+            }
+
+            return new Precompiled(names, values);
+        }
     }
 }
\ No newline at end of file
@@ -1,11 +1,17 @@
 package io.mangoo.core;
 
 import io.mangoo.interfaces.MangooBootstrap;
+import io.mangoo.utils.internal.InFlight;
 import io.mangoo.utils.internal.Trace;
+import io.mangoo.utils.internal.VirtualThreads;
 import jakarta.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 @Singleton
 public class Shutdown extends Thread {
     private static final Logger LOG = LogManager.getLogger(Shutdown.class);
@@ -22,18 +28,43 @@ public class Shutdown extends Thread {
         }
     }
 
-    private void stopScheduler() {
+    private void drainUndertow(long deadline) {
+        try {
+            LOG.info("Draining Undertow");
+            if (!Application.drainUndertow(deadline)) {
+                LOG.warn("Drain timeout exceeded, cutting off requests in flight");
+            }
+        } catch (Exception e) {
+            LOG.error("Error draining Undertow", e);
+        }
+    }
+
+    private void stopScheduler(long deadline) {
         try {
             if (Application.getInstance(Config.class).isSchedulerEnabled()) {
                 LOG.info("Stopping Scheduler");
                 Application.getScheduledExecutorService().shutdown();
-                Application.getExecutorService().shutdown();
+
+                var executorService = Application.getExecutorService();
+                executorService.shutdown();
+                if (!executorService.awaitTermination(Math.max(1, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    LOG.warn("Drain timeout exceeded, interrupting running tasks");
+                    executorService.shutdownNow();
+                }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.error("Interrupted while stopping Scheduler", e);
         } catch (Exception e) {
             LOG.error("Error stopping Scheduler", e);
         }
     }
 
+    private void drainInFlight(long deadline) {
+        Map<String, Integer> pending = InFlight.await(deadline);
+        pending.forEach((kind, count) -> LOG.warn("Drain timeout exceeded, cutting off {} {}", count, kind));
+    }
+
     private void stopUndertow() {
         try {
             LOG.info("Stopping Undertow");
@@ -43,6 +74,15 @@ public class Shutdown extends Thread {
         }
     }
 
+    private void stopVirtualThreads() {
+        try {
+            LOG.info("Stopping virtual thread dispatch");
+            VirtualThreads.shutdown();
+        } catch (Exception e) {
+            LOG.error("Error stopping virtual thread dispatch", e);
+        }
+    }
+
     private void stopEmbeddedMongoDB() {
         try {
             if (Application.getInstance(Config.class).isPersistenceEnabled()) {
@@ -72,11 +112,17 @@ public class Shutdown extends Thread {
 
     @Override
     public void run() {
+        var timeout = Duration.ofSeconds(Application.getInstance(Config.class).getUndertowDrainTimeout());
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        drainUndertow(deadline);
+        stopScheduler(deadline);
+        drainInFlight(deadline);
+        stopUndertow();
+        stopVirtualThreads();
         invokeLifecycle();
-        stopScheduler();
         stopEmbeddedMongoDB();
         stopTelemetry();
-        stopUndertow();
         stopLogger();
     }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package io.mangoo.enums;
+
+import java.util.Locale;
+
+public enum Dispatch {
+    WORKER,
+    VIRTUAL;
+
+    public static Dispatch fromString(String value) {
+        for (Dispatch dispatch : Dispatch.values()) {
+            if (dispatch.name().equals(value.toUpperCase(Locale.ENGLISH))) {
+                return dispatch;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,21 @@
+package io.mangoo.enums;
+
+public enum Priority {
+    LOW(0.6),
+    NORMAL(0.8),
+    HIGH(0.9),
+    CRITICAL(1.0);
+
+    private final double share;
+
+    Priority(double share) {
+        this.share = share;
+    }
+
+    /**
+     * @return The share of the concurrency limit requests of this priority may use
+     */
+    public double getShare() {
+        return share;
+    }
+}
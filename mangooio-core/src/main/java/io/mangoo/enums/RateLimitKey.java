@@ -0,0 +1,19 @@
+package io.mangoo.enums;
+
+import java.util.Locale;
+
+public enum RateLimitKey {
+    IP,
+    API_KEY,
+    SUBJECT;
+
+    public static RateLimitKey fromString(String value) {
+        for (RateLimitKey key : RateLimitKey.values()) {
+            if (key.name().equals(value.toUpperCase(Locale.ENGLISH))) {
+                return key;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,18 @@
+package io.mangoo.enums;
+
+import java.util.Locale;
+
+public enum SessionFormat {
+    JWT,
+    COMPACT;
+
+    public static SessionFormat fromString(String value) {
+        for (SessionFormat sessionFormat : SessionFormat.values()) {
+            if (sessionFormat.name().equals(value.toUpperCase(Locale.ENGLISH))) {
+                return sessionFormat;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,19 @@
+package io.mangoo.enums;
+
+import java.util.Locale;
+
+public enum SessionStorage {
+    COOKIE,
+    LOCAL,
+    DATASTORE;
+
+    public static SessionStorage fromString(String value) {
+        for (SessionStorage sessionStorage : SessionStorage.values()) {
+            if (sessionStorage.name().equals(value.toUpperCase(Locale.ENGLISH))) {
+                return sessionStorage;
+            }
+        }
+
+        return null;
+    }
+}
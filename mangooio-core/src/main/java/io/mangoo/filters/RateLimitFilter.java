@@ -0,0 +1,99 @@
+package io.mangoo.filters;
+
+import io.mangoo.constants.Header;
+import io.mangoo.constants.Key;
+import io.mangoo.constants.Required;
+import io.mangoo.core.Config;
+import io.mangoo.enums.RateLimitKey;
+import io.mangoo.interfaces.filters.PerRequestFilter;
+import io.mangoo.routing.Response;
+import io.mangoo.routing.bindings.Authentication;
+import io.mangoo.routing.bindings.Request;
+import io.mangoo.utils.RequestUtils;
+import io.mangoo.utils.internal.TokenBuckets;
+import io.undertow.util.StatusCodes;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+@Singleton
+public class RateLimitFilter implements PerRequestFilter {
+    private static final long MILLIS = 1000;
+    private final TokenBuckets buckets;
+    private final RateLimitKey key;
+    private final String apiKey;
+    private final String limit;
+
+    @Inject
+    public RateLimitFilter(Config config) {
+        this(config.getRateLimitLimit(),
+             Duration.ofSeconds(config.getRateLimitPeriod()),
+             Optional.ofNullable(RateLimitKey.fromString(config.getRateLimitKey())).orElse(RateLimitKey.IP),
+             config.getString(Key.APPLICATION_API_KEY),
+             config.getRateLimitCapacity());
+    }
+
+    /**
+     * Creates a filter which limits requests with a token bucket per key
+     *
+     * @param limit The number of requests allowed per period
+     * @param period The period in which the limit is refilled completely
+     * @param key What requests are limited by
+     * @param apiKey The configured API key, the only Authorization value limited by its own bucket
+     * @param capacity The maximum number of keys held at the same time
+     */
+    public RateLimitFilter(long limit, Duration period, RateLimitKey key, String apiKey, int capacity) {
+        Objects.requireNonNull(period, Required.PERIOD);
+        this.key = Objects.requireNonNull(key, Required.RATE_LIMIT_KEY);
+        this.apiKey = apiKey;
+        this.buckets = new TokenBuckets(limit, period.toMillis(), capacity);
+        this.limit = String.valueOf(limit);
+    }
+
+    @Override
+    public Response execute(Request request, Response response) {
+        long remaining = buckets.tryAcquire(getKey(request));
+        if (remaining < 0) {
+            String reset = toSeconds(-1 - remaining);
+            return Response.status(StatusCodes.TOO_MANY_REQUESTS)
+                    .headers(Map.of(
+                            Header.RATELIMIT_LIMIT, limit,
+                            Header.RATELIMIT_REMAINING, "0",
+                            Header.RATELIMIT_RESET, reset,
+                            Header.RETRY_AFTER, reset))
+                    .end();
+        }
+
+        long full = (buckets.getLimit() - remaining) * buckets.getPeriod() / buckets.getLimit();
+        return response.headers(Map.of(
+                Header.RATELIMIT_LIMIT, limit,
+                Header.RATELIMIT_REMAINING, String.valueOf(remaining),
+                Header.RATELIMIT_RESET, toSeconds(full)));
+    }
+
+    private String getKey(Request request) {
+        String value = switch (key) {
+            case API_KEY -> RequestUtils.getAuthorizationHeader(request).filter(this::isApiKey).orElse(null);
+            case SUBJECT -> Optional.ofNullable(request.getAuthentication()).map(Authentication::getSubject).orElse(null);
+            case IP -> null;
+        };
+
+        return StringUtils.isNotBlank(value) ? value : request.getRemoteAddress();
+    }
+
+    private boolean isApiKey(String authorization) {
+        // Unverified values would give every request a fresh bucket
+        return StringUtils.isNotBlank(authorization) &&
+               StringUtils.isNotBlank(apiKey) &&
+               authorization.equals(apiKey);
+    }
+
+    private static String toSeconds(long millis) {
+        return String.valueOf((millis + MILLIS - 1) / MILLIS);
+    }
+}
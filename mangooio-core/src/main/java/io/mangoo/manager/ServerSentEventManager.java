@@ -1,6 +1,7 @@
 package io.mangoo.manager;
 
 import io.mangoo.constants.Required;
+import io.mangoo.utils.internal.InFlight;
 import io.undertow.server.handlers.sse.ServerSentEventConnection;
 import jakarta.inject.Singleton;
 
@@ -37,7 +38,7 @@ public class ServerSentEventManager {
         Objects.requireNonNull(uri, Required.URI);
         Objects.requireNonNull(uri, Required.DATA);
 
-        Thread.ofVirtual().start(() ->
+        InFlight.start(InFlight.SERVER_SENT_EVENTS, () ->
                 SERVER_SENT_EVENT_CONNECTIONS
                         .getOrDefault(uri, List.of())
                         .stream()
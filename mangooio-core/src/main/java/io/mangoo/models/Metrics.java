@@ -19,6 +19,12 @@ public class Metrics {
     private final AtomicLong totalRequests = new AtomicLong();
     private final AtomicInteger maxRequestTime = new AtomicInteger(-1);
     private final AtomicInteger minRequestTime = new AtomicInteger(-1);
+    private final AtomicInteger virtualTasks = new AtomicInteger();
+    private final LongAdder virtualTasksTotal = new LongAdder();
+    private final LongAdder pinnedVirtualThreads = new LongAdder();
+    private final LongAdder coalescedRequests = new LongAdder();
+    private final LongAdder shedRequests = new LongAdder();
+    private final Map<String, LongAdder> timeouts = new ConcurrentHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, CONCURRENCY_LEVEL);
 
     public Metrics() {
         // Empty constructor for Google Guice
@@ -67,6 +73,57 @@ public class Metrics {
         return dataSend.get();
     }
 
+    public void incrementVirtualTasks() {
+        virtualTasks.incrementAndGet();
+        virtualTasksTotal.increment();
+    }
+
+    public void decrementVirtualTasks() {
+        virtualTasks.decrementAndGet();
+    }
+
+    public int getVirtualTasks() {
+        return virtualTasks.get();
+    }
+
+    public long getVirtualTasksTotal() {
+        return virtualTasksTotal.longValue();
+    }
+
+    public void incrementPinnedVirtualThreads() {
+        pinnedVirtualThreads.increment();
+    }
+
+    public long getPinnedVirtualThreads() {
+        return pinnedVirtualThreads.longValue();
+    }
+
+    public void incrementCoalescedRequests() {
+        coalescedRequests.increment();
+    }
+
+    public long getCoalescedRequests() {
+        return coalescedRequests.longValue();
+    }
+
+    public void incrementShedRequests() {
+        shedRequests.increment();
+    }
+
+    public long getShedRequests() {
+        return shedRequests.longValue();
+    }
+
+    public void incrementTimeouts(String route) {
+        timeouts
+                .computeIfAbsent(route, key -> new LongAdder())
+                .increment();
+    }
+
+    public Map<String, LongAdder> getTimeouts() {
+        return timeouts;
+    }
+
     public void reset() {
         responseCount.clear();
         dataSend.set(0);
@@ -74,5 +131,10 @@ public class Metrics {
         totalRequests.set(0);
         maxRequestTime.set(-1);
         minRequestTime.set(-1);
+        virtualTasksTotal.reset();
+        pinnedVirtualThreads.reset();
+        coalescedRequests.reset();
+        shedRequests.reset();
+        timeouts.clear();
     }
 }
\ No newline at end of file
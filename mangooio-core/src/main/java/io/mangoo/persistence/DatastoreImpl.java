@@ -8,6 +8,7 @@ import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.CountOptions;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.InsertOneResult;
@@ -17,6 +18,7 @@ import io.mangoo.core.Application;
 import io.mangoo.core.Config;
 import io.mangoo.persistence.interfaces.BaseEntity;
 import io.mangoo.persistence.interfaces.Datastore;
+import io.mangoo.routing.Deadline;
 import io.mangoo.utils.PersistenceUtils;
 import jakarta.inject.Inject;
 import org.apache.commons.lang3.StringUtils;
@@ -33,6 +35,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import static com.mongodb.client.model.Filters.eq;
@@ -142,6 +145,7 @@ public class DatastoreImpl implements Datastore {
 
         return (T) query(clazz)
                 .find(query)
+                .maxTime(Deadline.getMaxTime(), TimeUnit.MILLISECONDS)
                 .first();
     }
 
@@ -155,6 +159,7 @@ public class DatastoreImpl implements Datastore {
                 .find()
                 .sort(sort)
                 .limit(1)
+                .maxTime(Deadline.getMaxTime(), TimeUnit.MILLISECONDS)
                 .first();
     }
 
@@ -168,7 +173,7 @@ public class DatastoreImpl implements Datastore {
         List<Object> result = new ArrayList<>();
         MongoCollection collection = getCollection(clazz).orElseGet(null); //NOSONAR
         if (collection != null) {
-            collection.find(query).sort(sort).forEach(result::add);
+            collection.find(query).sort(sort).maxTime(Deadline.getMaxTime(), TimeUnit.MILLISECONDS).forEach(result::add);
         }
 
         return (List<T>) result;
@@ -185,7 +190,7 @@ public class DatastoreImpl implements Datastore {
         List<Object> result = new ArrayList<>();
         MongoCollection collection = getCollection(clazz).orElseGet(null); //NOSONAR
         if (collection != null) {
-            collection.find(query).sort(sort).limit(limit).forEach(result::add);
+            collection.find(query).sort(sort).limit(limit).maxTime(Deadline.getMaxTime(), TimeUnit.MILLISECONDS).forEach(result::add);
         }
 
         return (List<T>) result;
@@ -199,7 +204,7 @@ public class DatastoreImpl implements Datastore {
         List<Object> result = new ArrayList<>();
         MongoCollection collection = getCollection(clazz).orElseGet(null); //NOSONAR
         if (collection != null) {
-            collection.find().forEach(result::add);
+            collection.find().maxTime(Deadline.getMaxTime(), TimeUnit.MILLISECONDS).forEach(result::add);
         }
         
         return (List<T>) result;
@@ -214,7 +219,7 @@ public class DatastoreImpl implements Datastore {
         List<Object> result = new ArrayList<>();
         MongoCollection collection = getCollection(clazz).orElseGet(null); //NOSONAR
         if (collection != null) {
-            collection.find().sort(sort).forEach(result::add);
+            collection.find().sort(sort).maxTime(Deadline.getMaxTime(), TimeUnit.MILLISECONDS).forEach(result::add);
         }
 
         return (List<T>) result;
@@ -229,7 +234,7 @@ public class DatastoreImpl implements Datastore {
         long count = -1;
         MongoCollection collection = getCollection(clazz).orElseGet(null); //NOSONAR
         if (collection != null) {
-            count = collection.countDocuments(query);
+            count = collection.countDocuments(query, getCountOptions());
         }
         
         return count;
@@ -243,12 +248,19 @@ public class DatastoreImpl implements Datastore {
         long count = -1;
         MongoCollection collection = getCollection(clazz).orElseGet(null); //NOSONAR
         if (collection != null) {
-            count = collection.countDocuments();
+            count = collection.countDocuments(new BsonDocument(), getCountOptions());
         }
 
         return count;
     }
 
+    /**
+     * @return Count options bounded by the deadline of the current request, if any
+     */
+    private static CountOptions getCountOptions() {
+        return new CountOptions().maxTime(Deadline.getMaxTime(), TimeUnit.MILLISECONDS);
+    }
+
     @Override
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public String save(Object object) {
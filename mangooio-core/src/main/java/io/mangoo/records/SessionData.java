@@ -0,0 +1,6 @@
+package io.mangoo.records;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record SessionData(Map<String, String> values, String csrf, Instant expires) {}
@@ -4,30 +4,40 @@ import io.mangoo.constants.Required;
 import io.mangoo.i18n.Messages;
 import io.mangoo.routing.bindings.*;
 import io.mangoo.templating.TemplateEngine;
+import io.undertow.util.HttpString;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.function.Supplier;
 
 public class Attachment {
     private Authentication authentication;
+    private Supplier<Authentication> authenticationSupplier;
     private String controllerClassName;
     private String controllerMethodName;
-    private String body;
+    private RequestBody body;
     private List<Annotation> classAnnotations;
     private Class<?> controllerClass;
     private Object controllerInstance;
+    private Coalescer coalescer;
+    private Map<HttpString, String> controllerHeaders;
+    private Deadline deadline;
     private Flash flash;
+    private Supplier<Flash> flashSupplier;
     private Form form;
+    private Invoker invoker;
     private Locale locale;
     private Messages messages;
     private Method method;
     private List<Annotation> methodAnnotations;
     private Map<String, Class<?>> methodParameters;
     private Request request;
+    private Supplier<Request> requestSupplier;
     private Map<String, String> requestParameter;
     private Response response;
     private Session session;
+    private Supplier<Session> sessionSupplier;
     private TemplateEngine templateEngine;
     private int methodParametersCount;
     private boolean requestFilter;
@@ -37,7 +47,14 @@ public class Attachment {
         return new Attachment();
     }
     
+    /**
+     * @return The authentication, which is created on first access if it was set via a supplier
+     */
     public Authentication getAuthentication() {
+        if (this.authentication == null && this.authenticationSupplier != null) {
+            this.authentication = this.authenticationSupplier.get();
+        }
+
         return this.authentication;
     }
 
@@ -45,11 +62,29 @@ public class Attachment {
         this.authentication = authentication;
     }
 
-    public String getBody() {
+    /**
+     * Sets a supplier which creates the authentication once it is accessed for the first
+     * time, thus the authentication cookie of requests which never access it is never parsed
+     *
+     * @param authenticationSupplier The supplier of the authentication
+     */
+    public void setAuthentication(Supplier<Authentication> authenticationSupplier) {
+        this.authentication = null;
+        this.authenticationSupplier = authenticationSupplier;
+    }
+
+    /**
+     * @return True if the authentication has been accessed or set, false otherwise
+     */
+    public boolean isAuthenticationLoaded() {
+        return this.authentication != null;
+    }
+
+    public RequestBody getBody() {
         return this.body;
     }
 
-    public void setBody(String body) {
+    public void setBody(RequestBody body) {
         this.body = body;
     }
 
@@ -77,15 +112,42 @@ public class Attachment {
         return this.controllerMethodName;
     }
 
+    /**
+     * @return The flash, which is created on first access if it was set via a supplier
+     */
     public Flash getFlash() {
+        if (this.flash == null && this.flashSupplier != null) {
+            this.flash = this.flashSupplier.get();
+        }
+
         return this.flash;
     }
 
     public void setFlash(Flash flash) {
         this.flash = flash;
     }
-    
+
+    /**
+     * Sets a supplier which creates the flash once it is accessed for the first time,
+     * thus the flash cookie of requests which never access it is never parsed. As the
+     * flash may carry a kept form, the flash is created as well once the form is accessed.
+     *
+     * @param flashSupplier The supplier of the flash
+     */
+    public void setFlash(Supplier<Flash> flashSupplier) {
+        this.flash = null;
+        this.flashSupplier = flashSupplier;
+    }
+
+    /**
+     * @return True if the flash has been accessed or set, false otherwise
+     */
+    public boolean isFlashLoaded() {
+        return this.flash != null;
+    }
+
     public Form getForm() {
+        getFlash();
         return this.form;
     }
     
@@ -93,6 +155,26 @@ public class Attachment {
         this.form = form;
     }
     
+    public Coalescer getCoalescer() {
+        return this.coalescer;
+    }
+
+    public void setCoalescer(Coalescer coalescer) {
+        this.coalescer = coalescer;
+    }
+
+    public Deadline getDeadline() {
+        return this.deadline;
+    }
+
+    public void setDeadline(Deadline deadline) {
+        this.deadline = deadline;
+    }
+
+    public Invoker getInvoker() {
+        return this.invoker;
+    }
+
     public Locale getLocale() {
         return this.locale;
     }
@@ -117,7 +199,14 @@ public class Attachment {
         return this.methodParametersCount;
     }
 
+    /**
+     * @return The request, which is created on first access if it was set via a supplier
+     */
     public Request getRequest() {
+        if (this.request == null && this.requestSupplier != null) {
+            this.request = this.requestSupplier.get();
+        }
+
         return this.request;
     }
 
@@ -125,6 +214,17 @@ public class Attachment {
         this.request = request;
     }
 
+    /**
+     * Sets a supplier which creates the request once it is accessed for the first
+     * time, thus requests which are never accessed are never created
+     *
+     * @param requestSupplier The supplier of the request
+     */
+    public void setRequest(Supplier<Request> requestSupplier) {
+        this.request = null;
+        this.requestSupplier = requestSupplier;
+    }
+
     public  Map<String, String> getRequestParameter() {
         return this.requestParameter;
     }
@@ -137,7 +237,14 @@ public class Attachment {
         this.response = response;
     }
 
+    /**
+     * @return The session, which is created on first access if it was set via a supplier
+     */
     public Session getSession() {
+        if (this.session == null && this.sessionSupplier != null) {
+            this.session = this.sessionSupplier.get();
+        }
+
         return this.session;
     }
 
@@ -145,6 +252,47 @@ public class Attachment {
         this.session = session;
     }
 
+    /**
+     * Sets a supplier which creates the session once it is accessed for the first time,
+     * thus the session cookie of requests which never access it is never parsed and no
+     * CSRF token is generated
+     *
+     * @param sessionSupplier The supplier of the session
+     */
+    public void setSession(Supplier<Session> sessionSupplier) {
+        this.session = null;
+        this.sessionSupplier = sessionSupplier;
+    }
+
+    /**
+     * @return True if the session has been accessed or set, false otherwise
+     */
+    public boolean isSessionLoaded() {
+        return this.session != null;
+    }
+
+    /**
+     * Checks if the response of the request may depend on the current user, which is the
+     * case once the session, the flash or the authentication have been accessed
+     *
+     * @param subject True if the response varies by the authentication subject anyway, thus accessing the authentication is allowed
+     * @return True if the response may depend on the current user, false otherwise
+     */
+    public boolean isPersonalized(boolean subject) {
+        return isSessionLoaded() || isFlashLoaded() || (!subject && isAuthenticationLoaded());
+    }
+
+    /**
+     * @return The headers set by the controller, without the headers merged from filters, or null if no controller was invoked
+     */
+    public Map<HttpString, String> getControllerHeaders() {
+        return this.controllerHeaders;
+    }
+
+    public void setControllerHeaders(Map<HttpString, String> controllerHeaders) {
+        this.controllerHeaders = Collections.unmodifiableMap(new HashMap<>(controllerHeaders));
+    }
+
     public TemplateEngine getTemplateEngine() {
         return this.templateEngine;
     }
@@ -158,7 +306,7 @@ public class Attachment {
     }
 
     public Attachment withClassAnnotations(Collection<Annotation> classAnnotations) {
-        this.classAnnotations = new ArrayList<>(classAnnotations);
+        this.classAnnotations = List.copyOf(classAnnotations);
         return this;
     }
 
@@ -182,6 +330,11 @@ public class Attachment {
         return this;
     }
 
+    public Attachment withInvoker(Invoker invoker) {
+        this.invoker = Objects.requireNonNull(invoker, Required.INVOKER);
+        return this;
+    }
+
     public Attachment withLocale(Locale locale) {
         this.locale = Objects.requireNonNull(locale, Required.LOCALE);
         return this;
@@ -198,7 +351,7 @@ public class Attachment {
     }
     
     public Attachment withMethodAnnotations(Collection<Annotation> methodAnnotations) {
-        this.methodAnnotations = new ArrayList<>(methodAnnotations);
+        this.methodAnnotations = List.copyOf(methodAnnotations);
         return this;
     }
     
@@ -0,0 +1,108 @@
+package io.mangoo.routing;
+
+import io.mangoo.constants.Required;
+import io.mangoo.enums.Binding;
+import io.mangoo.routing.bindings.UnprocessableContent;
+import io.mangoo.utils.RequestUtils;
+import io.undertow.server.HttpServerExchange;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+@FunctionalInterface
+public interface Binder {
+    /**
+     * Binds the value of a controller method parameter from the current request
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
+     * @return The bound value, null or an instance of UnprocessableContent if conversion failed
+     */
+    Object bind(HttpServerExchange exchange, Attachment attachment);
+
+    /**
+     * Creates a binder for a controller method parameter, resolving the type of binding once
+     *
+     * @param name The name of the parameter
+     * @param clazz The type of the parameter
+     * @return A binder for the parameter
+     */
+    static Binder of(String name, Class<?> clazz) {
+        return of(name, clazz, false);
+    }
+
+    /**
+     * Creates a binder for a controller method parameter, resolving the type of binding once
+     *
+     * @param name The name of the parameter
+     * @param clazz The type of the parameter
+     * @param streaming True if a JSON body may be parsed directly from the request without buffering it
+     * @return A binder for the parameter
+     */
+    static Binder of(String name, Class<?> clazz, boolean streaming) {
+        Objects.requireNonNull(name, Required.NAME);
+        Objects.requireNonNull(clazz, Required.CLASS);
+
+        final var binding = Optional.ofNullable(Binding.fromString(clazz.getName())).orElse(Binding.UNDEFINED);
+        return switch (binding) {
+            case FORM -> (exchange, attachment) -> attachment.getForm();
+            case AUTHENTICATION -> (exchange, attachment) -> attachment.getAuthentication();
+            case SESSION -> (exchange, attachment) -> attachment.getSession();
+            case FLASH -> (exchange, attachment) -> attachment.getFlash();
+            case REQUEST -> (exchange, attachment) -> attachment.getRequest();
+            case MESSAGES -> (exchange, attachment) -> attachment.getMessages();
+            case LOCAL_DATE -> (exchange, attachment) -> convert(attachment, name, null, LocalDate::parse);
+            case LOCAL_DATE_TIME -> (exchange, attachment) -> convert(attachment, name, null, LocalDateTime::parse);
+            case STRING -> (exchange, attachment) -> convert(attachment, name, null, value -> value);
+            case INT_PRIMITIVE -> (exchange, attachment) -> convert(attachment, name, 0, Integer::valueOf);
+            case INTEGER -> (exchange, attachment) -> convert(attachment, name, null, Integer::valueOf);
+            case DOUBLE_PRIMITIVE -> (exchange, attachment) -> convert(attachment, name, 0d, Double::valueOf);
+            case DOUBLE -> (exchange, attachment) -> convert(attachment, name, null, Double::valueOf);
+            case FLOAT_PRIMITIVE -> (exchange, attachment) -> convert(attachment, name, 0f, Float::valueOf);
+            case FLOAT -> (exchange, attachment) -> convert(attachment, name, null, Float::valueOf);
+            case LONG_PRIMITIVE -> (exchange, attachment) -> convert(attachment, name, 0L, Long::valueOf);
+            case LONG -> (exchange, attachment) -> convert(attachment, name, null, Long::valueOf);
+            case OPTIONAL -> (exchange, attachment) -> convert(attachment, name, Optional.empty(), Optional::of);
+            case BOOLEAN_PRIMITIVE -> (exchange, attachment) -> convert(attachment, name, Boolean.FALSE, Binder::toBoolean);
+            case BOOLEAN -> (exchange, attachment) -> convert(attachment, name, null, Binder::toBoolean);
+            case UNDEFINED -> (exchange, attachment) ->
+                    RequestUtils.isJsonRequest(exchange)
+                            ? attachment.getBody().toObject(clazz, streaming)
+                            : null;
+        };
+    }
+
+    /**
+     * Converts a request parameter with the given converter
+     *
+     * @param attachment The attachment of the current request
+     * @param name The name of the request parameter
+     * @param empty The value to use if the request parameter is blank
+     * @param converter The converter to apply to the request parameter
+     * @return The converted value or an instance of UnprocessableContent if conversion failed
+     */
+    private static Object convert(Attachment attachment, String name, Object empty, Function<String, Object> converter) {
+        String value = attachment.getRequestParameter().get(name);
+        if (StringUtils.isBlank(value)) {
+            return empty;
+        }
+
+        try {
+            return converter.apply(value);
+        } catch (RuntimeException e) { //NOSONAR Intentionally catching all conversion failures
+            return new UnprocessableContent();
+        }
+    }
+
+    private static Boolean toBoolean(String value) {
+        if (!"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value)) {
+            throw new IllegalArgumentException("Invalid boolean value");
+        }
+
+        return Boolean.valueOf(value);
+    }
+}
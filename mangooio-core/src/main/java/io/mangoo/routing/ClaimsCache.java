@@ -0,0 +1,108 @@
+package io.mangoo.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.hash.Hashing;
+import com.nimbusds.jwt.JWTClaimsSet;
+import io.mangoo.cache.CacheImpl;
+import io.mangoo.cache.CacheProvider;
+import io.mangoo.constants.CacheName;
+import io.mangoo.constants.Required;
+import io.mangoo.core.Config;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A bounded cache of the validated claims of session and authentication cookies, keyed by a
+ * fast hash of the raw cookie value. Claims are held until the token expires, thus a cookie
+ * that is sent again only needs to be decrypted and verified once. As the hash is not
+ * cryptographic, a hit is only used if the cached cookie value matches the requested one.
+ * <p>
+ * The cache only replaces decryption and signature verification, checks that depend on the
+ * current state, like the authentication blacklist, still have to be done on every request.
+ */
+@Singleton
+public class ClaimsCache {
+    private final Cache<String, Object> cache;
+
+    @Inject
+    public ClaimsCache(Config config, CacheProvider cacheProvider) {
+        Objects.requireNonNull(config, Required.CONFIG);
+        Objects.requireNonNull(cacheProvider, Required.CACHE_PROVIDER);
+
+        if (config.isCookieCacheEnable()) {
+            this.cache = Caffeine.newBuilder()
+                    .maximumSize(config.getCookieCacheSize())
+                    .expireAfter(Expiry.creating((String key, Object value) -> ((Entry) value).getTimeToLive()))
+                    .recordStats()
+                    .build();
+
+            cacheProvider.addCache(CacheName.CLAIMS, new CacheImpl(cache));
+        } else {
+            this.cache = null;
+        }
+    }
+
+    /**
+     * Retrieves the cached claims of a cookie value
+     *
+     * @param audience The audience of the cookie, usually the cookie name
+     * @param cookieValue The raw value of the cookie
+     * @return The validated claims or null if none are cached or the cache is disabled
+     */
+    public JWTClaimsSet get(String audience, String cookieValue) {
+        Objects.requireNonNull(audience, Required.AUDIENCE);
+        Objects.requireNonNull(cookieValue, Required.COOKIE_VALUE);
+
+        if (cache != null
+                && cache.getIfPresent(getKey(audience, cookieValue)) instanceof Entry entry
+                && entry.audience().equals(audience)
+                && entry.cookieValue().equals(cookieValue)
+                && entry.expires().isAfter(Instant.now())) {
+            return entry.claims();
+        }
+
+        return null;
+    }
+
+    /**
+     * Caches the validated claims of a cookie value until the token expires
+     *
+     * @param audience The audience of the cookie, usually the cookie name
+     * @param cookieValue The raw value of the cookie
+     * @param claims The validated claims of the cookie
+     */
+    public void put(String audience, String cookieValue, JWTClaimsSet claims) {
+        Objects.requireNonNull(audience, Required.AUDIENCE);
+        Objects.requireNonNull(cookieValue, Required.COOKIE_VALUE);
+        Objects.requireNonNull(claims, Required.CLAIMS);
+
+        if (cache != null && claims.getExpirationTime() != null) {
+            cache.put(getKey(audience, cookieValue), new Entry(audience, cookieValue, claims, claims.getExpirationTime().toInstant()));
+        }
+    }
+
+    /**
+     * @return True if the cache is enabled, false otherwise
+     */
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    private static String getKey(String audience, String cookieValue) {
+        return audience + ':' + Long.toHexString(Hashing.farmHashFingerprint64().hashString(cookieValue, StandardCharsets.UTF_8).asLong());
+    }
+
+    private record Entry(String audience, String cookieValue, JWTClaimsSet claims, Instant expires) {
+        private Duration getTimeToLive() {
+            var ttl = Duration.between(Instant.now(), expires);
+            return ttl.isNegative() ? Duration.ZERO : ttl;
+        }
+    }
+}
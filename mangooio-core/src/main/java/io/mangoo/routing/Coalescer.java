@@ -0,0 +1,135 @@
+package io.mangoo.routing;
+
+import io.mangoo.constants.Required;
+import io.mangoo.exceptions.MangooTemplateEngineException;
+import io.mangoo.models.Metrics;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HttpString;
+import io.undertow.util.StatusCodes;
+
+import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public final class Coalescer {
+    private final Map<String, CompletableFuture<Result>> executions = new ConcurrentHashMap<>();
+    private final Metrics metrics;
+    private final long timeout;
+    private final boolean subject;
+
+    /**
+     * Creates a coalescer for the controller invocations of a route
+     *
+     * @param timeout The maximum time to wait for the result of a running execution
+     * @param subject True if executions are coalesced per subject of the current authentication
+     * @param metrics The metrics to record saved executions
+     */
+    public Coalescer(Duration timeout, boolean subject, Metrics metrics) {
+        this.timeout = Objects.requireNonNull(timeout, Required.TIMEOUT).toMillis();
+        this.subject = subject;
+        this.metrics = Objects.requireNonNull(metrics, Required.METRICS);
+    }
+
+    /**
+     * Builds the key of the current request from the request path, the query string,
+     * the locale and optionally the authentication subject
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
+     * @return The key of the current request
+     */
+    public String getKey(HttpServerExchange exchange, Attachment attachment) {
+        var key = new StringBuilder(exchange.getRequestPath())
+                .append('?').append(exchange.getQueryString())
+                .append('|').append(attachment.getLocale());
+
+        if (subject) {
+            key.append('|').append(attachment.getAuthentication().getSubject());
+        }
+
+        return key.toString();
+    }
+
+    /**
+     * Runs the given execution, unless an execution with the same key is already running.
+     * In that case the result of the running execution is shared, if it finishes within the
+     * timeout, has a plain body and did not access the session, the flash or, unless coalesced
+     * per subject, the authentication. Otherwise, the execution runs independently.
+     * <p>
+     * The shared result only contains the headers of the execution itself, thus the headers
+     * of the filters have to be merged by each request.
+     *
+     * @param key The key of the current request
+     * @param attachment The attachment of the current request
+     * @param execution The execution, e.g. the invocation of the controller method
+     * @return The response of the execution or a copy of the shared response
+     *
+     * @throws InvocationTargetException when an invocation fails
+     * @throws MangooTemplateEngineException when the template rendering fails
+     */
+    public Response execute(String key, Attachment attachment, Execution execution) throws InvocationTargetException, MangooTemplateEngineException {
+        Objects.requireNonNull(attachment, Required.ATTACHMENT);
+
+        var future = new CompletableFuture<Result>();
+        var running = executions.putIfAbsent(key, future);
+        if (running == null) {
+            return lead(key, future, attachment, execution);
+        }
+
+        try {
+            var result = running.get(timeout, TimeUnit.MILLISECONDS);
+            if (result != null) {
+                metrics.incrementCoalescedRequests();
+                return result.toResponse();
+            }
+        } catch (InterruptedException e) {
+            // The request was aborted, e.g. by its deadline, thus the controller must not run anymore
+            Thread.currentThread().interrupt();
+            return Response.status(StatusCodes.SERVICE_UNAVAILABLE).end();
+        } catch (ExecutionException | TimeoutException e) {
+            // Intentionally left blank, falling back to independent execution
+        }
+
+        return execution.execute();
+    }
+
+    private Response lead(String key, CompletableFuture<Result> future, Attachment attachment, Execution execution) throws InvocationTargetException, MangooTemplateEngineException {
+        try {
+            var response = execution.execute();
+            future.complete(response.isPlain() && !attachment.isPersonalized(subject) ? Result.of(response) : null);
+
+            return response;
+        } catch (InvocationTargetException | MangooTemplateEngineException | RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            executions.remove(key, future);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Execution {
+        Response execute() throws InvocationTargetException, MangooTemplateEngineException;
+    }
+
+    private record Result(int statusCode, String contentType, Map<HttpString, String> headers, ByteBuffer body) {
+        private static Result of(Response response) {
+            return new Result(response.getStatusCode(), response.getContentType(), Collections.unmodifiableMap(new HashMap<>(response.getHeaders())), response.getBodyBuffer());
+        }
+
+        private Response toResponse() {
+            return Response.status(statusCode, contentType)
+                    .headers(headers)
+                    .withBody(body);
+        }
+    }
+}
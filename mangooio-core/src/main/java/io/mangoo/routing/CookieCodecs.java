@@ -0,0 +1,105 @@
+package io.mangoo.routing;
+
+import io.mangoo.constants.Required;
+import io.mangoo.core.Config;
+import io.mangoo.enums.SessionFormat;
+import io.mangoo.exceptions.MangooJwtException;
+import io.mangoo.utils.JwtCodec;
+import io.mangoo.utils.JwtUtils;
+import io.mangoo.utils.SessionCodec;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The codecs of the session, authentication and flash cookie, built once from the
+ * configured keys, secrets and cookie names and shared by all requests
+ */
+@Singleton
+public class CookieCodecs {
+    private static final long FLASH_TTL_SECONDS = 60;
+    private final SessionCodec compactSession;
+    private final JwtCodec session;
+    private final JwtCodec authentication;
+    private final JwtCodec flash;
+    private final boolean compact;
+
+    @Inject
+    public CookieCodecs(Config config) {
+        Objects.requireNonNull(config, Required.CONFIG);
+
+        this.session = create("session", JwtUtils.jwtData()
+                .withKey(config.getSessionCookieKey())
+                .withSecret(config.getSessionCookieSecret())
+                .withIssuer(config.getApplicationName())
+                .withAudience(config.getSessionCookieName())
+                .withTtlSeconds(config.getSessionCookieTokenExpires()));
+
+        byte[] previousSecret = config.getSessionCookiePreviousSecret();
+        this.compactSession = new SessionCodec(config.getSessionCookieSecret(),
+                previousSecret != null ? List.of(previousSecret) : List.of(),
+                config.getApplicationName(),
+                config.getSessionCookieName(),
+                config.getSessionCookieTokenExpires());
+        this.compact = SessionFormat.fromString(config.getSessionCookieFormat()) == SessionFormat.COMPACT;
+
+        this.authentication = create("authentication", JwtUtils.jwtData()
+                .withKey(config.getAuthenticationCookieKey())
+                .withSecret(config.getAuthenticationCookieSecret())
+                .withIssuer(config.getApplicationName())
+                .withAudience(config.getAuthenticationCookieName())
+                .withTtlSeconds(config.getAuthenticationCookieRememberExpires()));
+
+        this.flash = create("flash", JwtUtils.jwtData()
+                .withKey(config.getFlashCookieKey())
+                .withSecret(config.getFlashCookieSecret())
+                .withIssuer(config.getApplicationName())
+                .withAudience(config.getFlashCookieName())
+                .withTtlSeconds(FLASH_TTL_SECONDS));
+    }
+
+    private static JwtCodec create(String name, JwtUtils.JwtData jwtData) {
+        try {
+            return JwtCodec.of(jwtData);
+        } catch (MangooJwtException e) {
+            throw new IllegalStateException("Invalid key or secret for the " + name + " cookie", e);
+        }
+    }
+
+    /**
+     * @return The codec of the session cookie
+     */
+    public JwtCodec getSession() {
+        return session;
+    }
+
+    /**
+     * @return The codec of the session cookie in the compact format
+     */
+    public SessionCodec getCompactSession() {
+        return compactSession;
+    }
+
+    /**
+     * @return True if session cookies are written in the compact format, false if they are written as JWT
+     */
+    public boolean isCompactSession() {
+        return compact;
+    }
+
+    /**
+     * @return The codec of the authentication cookie
+     */
+    public JwtCodec getAuthentication() {
+        return authentication;
+    }
+
+    /**
+     * @return The codec of the flash cookie
+     */
+    public JwtCodec getFlash() {
+        return flash;
+    }
+}
@@ -0,0 +1,141 @@
+package io.mangoo.routing;
+
+import io.mangoo.constants.Required;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.StatusCodes;
+import org.xnio.XnioExecutor;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+public final class Deadline {
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+    private static final int RUNNING = 0;
+    private static final int COMPLETED = 1;
+    private static final int EXPIRED = 2;
+    private final Runnable expired;
+    private final long expires;
+    private XnioExecutor.Key key;
+    private Thread thread;
+    private int state;
+
+    /**
+     * Creates a deadline which starts right away
+     *
+     * @param timeout The time after which the request is aborted
+     * @param expired Called once when the deadline expires, e.g. to count timeouts
+     */
+    public Deadline(Duration timeout, Runnable expired) {
+        Objects.requireNonNull(timeout, Required.TIMEOUT);
+        this.expired = Objects.requireNonNull(expired, Required.RUNNABLE);
+        this.expires = System.nanoTime() + timeout.toNanos();
+    }
+
+    /**
+     * @return The deadline of the request handled by the current thread, if the route has a timeout
+     */
+    public static Optional<Deadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Returns the remaining time of the deadline of the current thread in milliseconds,
+     * e.g. to pass it as maxTime to a MongoDB query. Returns at least one millisecond
+     * once the deadline expired.
+     *
+     * @return The remaining milliseconds or 0 if the current thread has no deadline
+     */
+    public static long getMaxTime() {
+        var deadline = CURRENT.get();
+        return deadline != null ? Math.max(1, deadline.getRemaining().toMillis()) : 0;
+    }
+
+    /**
+     * @return The time until the deadline expires, which is negative once it expired
+     */
+    public Duration getRemaining() {
+        return Duration.ofNanos(expires - System.nanoTime());
+    }
+
+    /**
+     * @return True if the deadline expired before the request completed, false otherwise
+     */
+    public synchronized boolean isExpired() {
+        return state == EXPIRED;
+    }
+
+    /**
+     * Binds the deadline to the current thread and schedules its expiry on the I/O
+     * thread of the request. On expiry, the request is marked as expired and the current
+     * thread is interrupted. The exchange is still owned by the current thread, which has
+     * to answer the client once it is released, see {@link #end(HttpServerExchange)}.
+     *
+     * @param exchange The Undertow HttpServerExchange
+     */
+    public void start(HttpServerExchange exchange) {
+        Objects.requireNonNull(exchange, Required.HTTP_SERVER_EXCHANGE);
+
+        synchronized (this) {
+            thread = Thread.currentThread();
+        }
+
+        CURRENT.set(this);
+        key = exchange.getIoThread().executeAfter(this::expire, Math.max(0, expires - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Completes the request before its deadline expires. Once completed, the request
+     * owns the exchange again and may send its response. Calling this method again
+     * has no effect.
+     *
+     * @return True if the request completed in time, false if the deadline already expired
+     */
+    public boolean complete() {
+        CURRENT.remove();
+        if (key != null) {
+            key.remove();
+        }
+
+        synchronized (this) {
+            if (state == EXPIRED) {
+                Thread.interrupted(); //NOSONAR Clearing the interrupt of the expiry, the thread is released afterward
+                return false;
+            }
+
+            state = COMPLETED;
+            return true;
+        }
+    }
+
+    /**
+     * Answers the client of an expired request with 503 Service Unavailable, unless a
+     * response was already sent. Must be called by the thread owning the exchange.
+     *
+     * @param exchange The Undertow HttpServerExchange
+     */
+    public static void end(HttpServerExchange exchange) {
+        Objects.requireNonNull(exchange, Required.HTTP_SERVER_EXCHANGE);
+
+        if (!exchange.isComplete()) {
+            if (!exchange.isResponseStarted()) {
+                exchange.setStatusCode(StatusCodes.SERVICE_UNAVAILABLE);
+            }
+            exchange.endExchange();
+        }
+    }
+
+    private void expire() {
+        synchronized (this) {
+            if (state != RUNNING) {
+                return;
+            }
+
+            state = EXPIRED;
+            thread.interrupt();
+        }
+
+        expired.run();
+    }
+}
@@ -0,0 +1,191 @@
+package io.mangoo.routing;
+
+import com.google.inject.Provider;
+import io.mangoo.constants.Required;
+import io.mangoo.core.Application;
+import io.mangoo.enums.Binding;
+import io.mangoo.interfaces.filters.OncePerRequestFilter;
+import io.mangoo.interfaces.filters.PerRequestFilter;
+import io.mangoo.routing.bindings.Request;
+import io.mangoo.utils.internal.MangooUtils;
+import io.undertow.server.HttpServerExchange;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public final class Invoker {
+    private static final MethodType INVOKE_TYPE = MethodType.methodType(Response.class, Object.class, Object[].class);
+    private final MethodHandle methodHandle;
+    private final Provider<OncePerRequestFilter> requestFilter;
+    private final List<Provider<? extends PerRequestFilter>> filters;
+    private final List<PerRequestFilter> routeFilters;
+    private final Binder[] binders;
+    private final boolean constrained;
+
+    /**
+     * Binds the given controller method, its parameters and filters once, so that
+     * requests do not need to look up or reflectively invoke them
+     *
+     * @param method The controller method
+     * @param filters The controller and method filters in order of execution
+     * @param requestFilter True if a global OncePerRequestFilter is bound
+     */
+    public Invoker(Method method, List<Class<? extends PerRequestFilter>> filters, boolean requestFilter) {
+        this(method, filters, List.of(), requestFilter);
+    }
+
+    /**
+     * Binds the given controller method, its parameters and filters once, so that
+     * requests do not need to look up or reflectively invoke them
+     *
+     * @param method The controller method
+     * @param filters The controller and method filters in order of execution
+     * @param routeFilters The filter instances of the route, e.g. a rate limit, which are executed first
+     * @param requestFilter True if a global OncePerRequestFilter is bound
+     */
+    public Invoker(Method method, List<Class<? extends PerRequestFilter>> filters, List<PerRequestFilter> routeFilters, boolean requestFilter) {
+        Objects.requireNonNull(method, Required.METHOD);
+        Objects.requireNonNull(filters, Required.FILTERS);
+        Objects.requireNonNull(routeFilters, Required.FILTERS);
+
+        try {
+            var handle = MethodHandles.lookup()
+                    .unreflect(method)
+                    .asSpreader(Object[].class, method.getParameterCount());
+            if (Modifier.isStatic(method.getModifiers())) {
+                // Static controller methods ignore the controller instance
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            this.methodHandle = handle.asType(INVOKE_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Controller method is not accessible: "
+                    + method.getDeclaringClass().getName() + "." + method.getName(), e);
+        }
+
+        List<Provider<? extends PerRequestFilter>> providers = new ArrayList<>();
+        for (Class<? extends PerRequestFilter> filter : filters) {
+            providers.add(Application.getInjector().getProvider(filter));
+        }
+
+        this.filters = List.copyOf(providers);
+        this.routeFilters = List.copyOf(routeFilters);
+        this.requestFilter = requestFilter ? Application.getInjector().getProvider(OncePerRequestFilter.class) : null;
+
+        Parameter[] parameters = method.getParameters();
+        boolean streaming = isStreaming(parameters);
+        this.binders = new Binder[parameters.length];
+        for (var i = 0; i < parameters.length; i++) {
+            binders[i] = Binder.of(parameters[i].getName(), parameters[i].getType(), streaming);
+        }
+        this.constrained = MangooUtils.hasConstrainedParameters(method);
+    }
+
+    /**
+     * Checks if a JSON body can be parsed directly from the request, which is the case
+     * if exactly one parameter binds the body and the controller method has no access
+     * to the raw body via the request
+     *
+     * @param parameters The parameters of the controller method
+     * @return True if the body can be streamed, false otherwise
+     */
+    private static boolean isStreaming(Parameter... parameters) {
+        var bodies = 0;
+        for (Parameter parameter : parameters) {
+            var binding = Binding.fromString(parameter.getType().getName());
+            if (binding == Binding.REQUEST) {
+                return false;
+            }
+
+            if (binding == null || binding == Binding.UNDEFINED) {
+                bodies++;
+            }
+        }
+
+        return bodies == 1;
+    }
+
+    /**
+     * Binds the parameters of the controller method from the current request
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
+     * @return The converted parameters in order of the controller method signature
+     */
+    public Object[] bind(HttpServerExchange exchange, Attachment attachment) {
+        final var parameters = new Object[binders.length];
+        for (var i = 0; i < binders.length; i++) {
+            parameters[i] = binders[i].bind(exchange, attachment);
+        }
+
+        return parameters;
+    }
+
+    /**
+     * @return True if the controller method has parameters, false otherwise
+     */
+    public boolean hasParameters() {
+        return binders.length > 0;
+    }
+
+    /**
+     * @return True if the controller method parameters have constraints that need to be validated
+     */
+    public boolean isConstrained() {
+        return constrained;
+    }
+
+    /**
+     * Executes the route filters, the global request filter and all controller and
+     * method filters, stopping at the first filter that ends the response
+     *
+     * @param request The current request
+     * @param response The response to pass to the filters
+     * @return The updated response
+     */
+    public Response filter(Request request, Response response) {
+        for (PerRequestFilter filter : routeFilters) {
+            response = filter.execute(request, response);
+            if (response.isEndResponse()) {
+                return response;
+            }
+        }
+
+        if (requestFilter != null) {
+            response = requestFilter.get().execute(request, response);
+        }
+
+        for (Provider<? extends PerRequestFilter> filter : filters) {
+            if (response.isEndResponse()) {
+                return response;
+            }
+            response = filter.get().execute(request, response);
+        }
+
+        return response;
+    }
+
+    /**
+     * Invokes the controller method with the given parameters
+     *
+     * @param controller The controller instance
+     * @param parameters The converted parameters of the controller method
+     * @return The response of the controller method
+     *
+     * @throws InvocationTargetException when the controller method throws an exception
+     */
+    public Response invoke(Object controller, Object... parameters) throws InvocationTargetException {
+        try {
+            return (Response) methodHandle.invokeExact(controller, parameters);
+        } catch (Throwable e) { //NOSONAR Intentionally catching throwable, same as Method.invoke
+            throw new InvocationTargetException(e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.mangoo.routing;
+
+import io.mangoo.constants.Required;
+import io.mangoo.core.Config;
+import io.mangoo.enums.Priority;
+import io.mangoo.models.Metrics;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Singleton
+public class Limiter {
+    private static final double SMOOTHING = 0.2;
+    private static final double LONG_WINDOW = 0.05;
+    private static final double DRIFT = 0.95;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double TOLERANCE = 1.5;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Metrics metrics;
+    private final String retryAfter;
+    private final boolean enabled;
+    private final int min;
+    private final int max;
+    private volatile double limit;
+    private double longRtt;
+
+    @Inject
+    public Limiter(Config config, Metrics metrics) {
+        Objects.requireNonNull(config, Required.CONFIG);
+        this.metrics = Objects.requireNonNull(metrics, Required.METRICS);
+        this.enabled = config.isLimiterEnable();
+        this.min = Math.max(1, config.getLimiterMin());
+        this.max = Math.max(min, config.getLimiterMax());
+        this.limit = Math.clamp(config.getLimiterInitial(), min, max);
+        this.retryAfter = String.valueOf(config.getLimiterRetryAfter());
+    }
+
+    /**
+     * Admits a request if the number of requests in flight is below the share of the
+     * current concurrency limit of the given priority. Admitted requests must be
+     * released once they complete.
+     *
+     * @param priority The priority class of the request
+     * @return True if the request is admitted, false if it should be shed
+     */
+    public boolean acquire(Priority priority) {
+        Objects.requireNonNull(priority, Required.PRIORITY_CLASS);
+
+        if (inflight.incrementAndGet() > limit * priority.getShare()) {
+            inflight.decrementAndGet();
+            metrics.incrementShedRequests();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Releases an admitted request and adjusts the concurrency limit from its latency
+     *
+     * @param start The value of System.nanoTime() when the request was admitted
+     */
+    public void release(long start) {
+        int current = inflight.getAndDecrement();
+        update(System.nanoTime() - start, current);
+    }
+
+    /**
+     * Adjusts the concurrency limit by the gradient between the long-term and the
+     * current latency. The limit grows while latency is stable and shrinks as soon
+     * as requests start to queue up, but only while the limit is actually used.
+     *
+     * @param rtt The latency of the completed request in nanoseconds
+     * @param current The number of requests in flight when the request completed
+     */
+    private synchronized void update(long rtt, int current) {
+        double sample = Math.max(rtt, 1);
+        if (longRtt == 0) {
+            longRtt = sample;
+        }
+
+        longRtt = longRtt * (1 - LONG_WINDOW) + sample * LONG_WINDOW;
+        if (longRtt / sample > 2) {
+            longRtt = longRtt * DRIFT;
+        }
+
+        if (current < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.clamp(TOLERANCE * longRtt / sample, MIN_GRADIENT, 1.0);
+        double next = limit * gradient + Math.sqrt(limit);
+        limit = Math.clamp(limit * (1 - SMOOTHING) + next * SMOOTHING, min, max);
+    }
+
+    /**
+     * @return True if admission control is enabled via limiter.enable
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return The current concurrency limit
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return The number of admitted requests currently in flight
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * @return The value of the Retry-After header of shed requests in seconds
+     */
+    public String getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,119 @@
+package io.mangoo.routing;
+
+import io.mangoo.constants.Header;
+import io.mangoo.constants.Required;
+import io.mangoo.utils.JsonUtils;
+import io.mangoo.utils.RequestUtils;
+import io.undertow.server.HttpServerExchange;
+import org.apache.logging.log4j.util.Strings;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+public final class RequestBody {
+    private static final byte[] EMPTY = new byte[0];
+    private final HttpServerExchange exchange;
+    private final boolean readable;
+    private byte[] bytes;
+    private String body;
+    private boolean consumed;
+
+    /**
+     * Creates a lazy body of the given request, which is read from the
+     * request not before it is accessed for the first time
+     *
+     * @param exchange The Undertow HttpServerExchange
+     */
+    public RequestBody(HttpServerExchange exchange) {
+        this.exchange = Objects.requireNonNull(exchange, Required.HTTP_SERVER_EXCHANGE);
+        this.readable = isReadable(exchange);
+    }
+
+    /**
+     * Reads the complete request body once. Subsequent calls return the same bytes.
+     *
+     * @return The request body as bytes or an empty array if the request has no readable body
+     */
+    public byte[] getBytes() {
+        if (bytes == null) {
+            bytes = readable && !consumed ? read() : EMPTY;
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Decodes the request body as UTF-8 once. Subsequent calls return the same string.
+     *
+     * @return The request body or an empty string if the request has no readable body
+     */
+    public String getString() {
+        if (body == null) {
+            byte[] content = getBytes();
+            body = content.length == 0 ? Strings.EMPTY : new String(content, StandardCharsets.UTF_8);
+        }
+
+        return body;
+    }
+
+    /**
+     * Converts the JSON request body to the given class. If streaming is allowed and
+     * the body has not been read yet, the body is parsed directly from the request
+     * without buffering it. In that case the body can not be read again afterward.
+     *
+     * @param clazz The Class to convert to
+     * @param streaming True if the body may be consumed while converting, false otherwise
+     * @param <T> Javadoc wants this, just ignore it
+     *
+     * @return The converted class or an instance of UnprocessableContent if conversion and fallback fails
+     */
+    public <T> T toObject(Class<T> clazz, boolean streaming) {
+        Objects.requireNonNull(clazz, Required.CLASS);
+
+        if (streaming && readable && bytes == null && !consumed) {
+            consumed = true;
+            exchange.startBlocking();
+            return JsonUtils.toObjectWithFallback(exchange.getInputStream(), clazz);
+        }
+
+        return JsonUtils.toObjectWithFallback(new ByteArrayInputStream(getBytes()), clazz);
+    }
+
+    /**
+     * Reads the request body in a single allocation when the content length is known
+     *
+     * @return The request body as bytes
+     */
+    private byte[] read() {
+        exchange.startBlocking();
+        try (InputStream inputStream = exchange.getInputStream()) {
+            long length = exchange.getRequestContentLength();
+            if (length >= 0 && length < Integer.MAX_VALUE) {
+                return inputStream.readNBytes((int) length);
+            }
+
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read request body", e);
+        }
+    }
+
+    private static boolean isReadable(HttpServerExchange exchange) {
+        if (!RequestUtils.isPostPutPatch(exchange)) {
+            return false;
+        }
+
+        if (RequestUtils.isJsonRequest(exchange)) {
+            return true;
+        }
+
+        String contentType = exchange.getRequestHeaders().getFirst(Header.CONTENT_TYPE);
+        return contentType == null ||
+                !(contentType.startsWith("multipart/") ||
+                  contentType.startsWith("application/x-www-form-urlencoded"));
+    }
+}
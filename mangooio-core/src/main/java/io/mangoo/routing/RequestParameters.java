@@ -0,0 +1,78 @@
+package io.mangoo.routing;
+
+import io.mangoo.constants.Required;
+import io.mangoo.utils.RequestUtils;
+import io.undertow.server.HttpServerExchange;
+
+import java.util.AbstractMap;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The request and query parameters of a request as a view over the exchange. Single parameters
+ * are looked up directly in the exchange, the map of all parameters is only materialized once
+ * it is iterated or modified, and at most once per request.
+ */
+public final class RequestParameters extends AbstractMap<String, String> {
+    private final HttpServerExchange exchange;
+    private Map<String, String> parameters;
+
+    public RequestParameters(HttpServerExchange exchange) {
+        this.exchange = Objects.requireNonNull(exchange, Required.HTTP_SERVER_EXCHANGE);
+    }
+
+    @Override
+    public String get(Object key) {
+        if (parameters != null) {
+            return parameters.get(key);
+        }
+
+        Deque<String> values = exchange.getPathParameters().get(key);
+        if (values == null) {
+            values = exchange.getQueryParameters().get(key);
+        }
+
+        return values != null ? values.peekFirst() : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (parameters != null) {
+            return parameters.containsKey(key);
+        }
+
+        return exchange.getPathParameters().containsKey(key) || exchange.getQueryParameters().containsKey(key);
+    }
+
+    @Override
+    public String put(String key, String value) {
+        return materialize().put(key, value);
+    }
+
+    @Override
+    public String remove(Object key) {
+        return materialize().remove(key);
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return materialize().entrySet();
+    }
+
+    /**
+     * @return True if the map of all parameters has been created, false otherwise
+     */
+    public boolean isMaterialized() {
+        return parameters != null;
+    }
+
+    private Map<String, String> materialize() {
+        if (parameters == null) {
+            parameters = RequestUtils.getRequestParameters(exchange);
+        }
+
+        return parameters;
+    }
+}
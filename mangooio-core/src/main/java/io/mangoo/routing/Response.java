@@ -6,29 +6,55 @@ import io.mangoo.constants.Header;
 import io.mangoo.constants.Required;
 import io.mangoo.constants.Template;
 import io.mangoo.models.Error;
+import io.mangoo.utils.FileUtils;
 import io.mangoo.utils.JsonUtils;
 import io.undertow.server.handlers.Cookie;
 import io.undertow.server.handlers.CookieImpl;
+import io.undertow.util.DateUtils;
 import io.undertow.util.HttpString;
 import io.undertow.util.StatusCodes;
 import org.apache.logging.log4j.util.Strings;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class Response {
+    private static final String NDJSON = "application/x-ndjson";
     private static final String VALID_HTTP = "Valid HTTP status codes are between 100 and 599 inclusive";
+    private static final Map<String, String> CONTENT_TYPE_HEADERS = Stream.concat(Stream.of(
+                    MediaType.PLAIN_TEXT_UTF_8,
+                    MediaType.HTML_UTF_8,
+                    MediaType.JSON_UTF_8,
+                    MediaType.XML_UTF_8,
+                    MediaType.CSV_UTF_8,
+                    MediaType.JAVASCRIPT_UTF_8,
+                    MediaType.CSS_UTF_8)
+                    .map(mediaType -> mediaType.withoutParameters().toString()), Stream.of(NDJSON))
+            .collect(Collectors.toUnmodifiableMap(type -> type, Response::withCharset));
     private final Map<HttpString, String> headers = new HashMap<>();
     private final Map<String, Object> content = new HashMap<>();
     private final List<Cookie> cookies = new ArrayList<>();
     private String redirectTo;
     private String contentType = MediaType.PLAIN_TEXT_UTF_8.withoutParameters().toString();
     private String body = Strings.EMPTY;
+    private ByteBuffer encodedBody;
     private String template;
+    private String etag;
+    private Instant lastModified;
     private byte[] binaryBody;
+    private StreamWriter streamWriter;
+    private Path fileBody;
     private boolean endResponse;
     private boolean rendered;
     private boolean redirect;
     private boolean binary;
+    private boolean streamed;
+    private boolean file;
     private int statusCode = StatusCodes.OK;
 
     public Response() {
@@ -191,14 +217,71 @@ public class Response {
         return contentType;
     }
 
+    /**
+     * @return The value of the Content-Type header, which is the content type with UTF-8 as charset
+     */
+    public String getContentTypeHeader() {
+        String header = CONTENT_TYPE_HEADERS.get(contentType);
+        return header != null ? header : withCharset(contentType);
+    }
+
+    private static String withCharset(String contentType) {
+        return contentType + "; charset=" + StandardCharsets.UTF_8.name();
+    }
+
+    /**
+     * @return The body of the response, decoded once if the body was set as UTF-8 bytes
+     */
     public String getBody() {
+        if (body == null && encodedBody != null) {
+            body = StandardCharsets.UTF_8.decode(encodedBody.duplicate()).toString();
+        }
+
         return body;
     }
 
+    /**
+     * Returns the body of the response encoded as UTF-8. The body is encoded once, every call
+     * returns a new read-only view positioned at the start of the body, thus it can be sent
+     * any number of times, even if the response is shared between requests.
+     *
+     * @return The UTF-8 encoded body or null if the response has no body
+     */
+    public ByteBuffer getBodyBuffer() {
+        if (encodedBody == null && body != null) {
+            encodedBody = ByteBuffer.wrap(body.getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+        }
+
+        return encodedBody != null ? encodedBody.duplicate() : null;
+    }
+
+    /**
+     * @return True if the response has a body, either as String or as UTF-8 bytes
+     */
+    public boolean hasBody() {
+        return body != null || encodedBody != null;
+    }
+
     public byte[] getBinaryBody() {
         return binaryBody;
     }
 
+    public String getETag() {
+        return etag;
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+
+    public Path getFileBody() {
+        return fileBody;
+    }
+
+    public StreamWriter getStreamWriter() {
+        return streamWriter;
+    }
+
     public List<Cookie> getCookies() {
         return new ArrayList<>(cookies);
     }
@@ -223,6 +306,27 @@ public class Response {
         return binary;
     }
 
+    public boolean isFile() {
+        return file;
+    }
+
+    public boolean isStreamed() {
+        return streamed;
+    }
+
+    /**
+     * @return True if the response has a plain body and does not set cookies, thus it can be shared between requests
+     */
+    public boolean isPlain() {
+        return hasBody()
+                && cookies.isEmpty()
+                && !rendered
+                && !redirect
+                && !binary
+                && !file
+                && !streamed;
+    }
+
     public boolean isEndResponse() {
         return endResponse;
     }
@@ -254,6 +358,35 @@ public class Response {
         return this;
     }
 
+    /**
+     * Sets the ETag of the response, e.g. a version of the rendered data. If the client
+     * already has this version, a 304 Not Modified is sent and rendering is skipped.
+     *
+     * @param etag The entity tag, quoted or unquoted
+     * @return The response object
+     */
+    public Response etag(String etag) {
+        Objects.requireNonNull(etag, Required.ETAG);
+        this.etag = etag.startsWith("\"") || etag.startsWith("W/\"") ? etag : "\"" + etag + "\"";
+        headers.put(Header.ETAG, this.etag);
+
+        return this;
+    }
+
+    /**
+     * Sets the time the data of the response has been modified last. If the client already
+     * has this version, a 304 Not Modified is sent and rendering is skipped.
+     *
+     * @param lastModified The time of the last modification
+     * @return The response object
+     */
+    public Response lastModified(Instant lastModified) {
+        this.lastModified = Objects.requireNonNull(lastModified, Required.LAST_MODIFIED);
+        headers.put(Header.LAST_MODIFIED, DateUtils.toDateString(Date.from(lastModified)));
+
+        return this;
+    }
+
     /**
      * Sets a specific content type to use for the response. Default is "text/html"
      *
@@ -295,7 +428,7 @@ public class Response {
     public Response bodyHtml(String html) {
         this.contentType = MediaType.HTML_UTF_8.withoutParameters().toString();
         rendered = false;
-        this.body = html;
+        setBody(html);
 
         return this;
     }
@@ -316,30 +449,158 @@ public class Response {
         return this;
     }
 
+    /**
+     * Sets a file as body of the response. The file is transferred directly from the
+     * file system to the client without loading it into memory, honoring Range and
+     * If-Range requests for partial content. The content type is detected by the
+     * file extension. No rendering will be performed.
+     *
+     * @param path The path of the file to send
+     * @return The response object
+     */
+    public Response bodyFile(Path path) {
+        this.fileBody = Objects.requireNonNull(path, Required.PATH);
+        this.contentType = Optional.ofNullable(FileUtils.getMimeType(path)).orElse(MediaType.OCTET_STREAM.toString());
+        rendered = false;
+        file = true;
+
+        return this;
+    }
+
+    /**
+     * Sets the body of the response without changing the content type
+     *
+     * @param body The body
+     * @return The response object
+     */
+    Response withBody(String body) {
+        setBody(body);
+        rendered = false;
+
+        return this;
+    }
+
+    /**
+     * Sets the UTF-8 encoded body of the response without changing the content type
+     *
+     * @param body The body, which is not modified
+     * @return The response object
+     */
+    Response withBody(ByteBuffer body) {
+        setBody(body);
+        rendered = false;
+
+        return this;
+    }
+
+    private void setBody(String body) {
+        this.body = body;
+        this.encodedBody = null;
+    }
+
+    private void setBody(ByteBuffer body) {
+        this.body = null;
+        this.encodedBody = body.asReadOnlyBuffer();
+    }
+
+    /**
+     * Sets a body which is already encoded as UTF-8 and sent to the client as is, without
+     * template rendering. The content type is not changed.
+     *
+     * @param bytes The UTF-8 encoded body
+     * @return The response object
+     */
+    public Response bodyUtf8(byte[] bytes) {
+        Objects.requireNonNull(bytes, Required.BYTES);
+
+        return bodyUtf8(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Sets a body which is already encoded as UTF-8 and sent to the client as is, without
+     * template rendering. The content type is not changed. The remaining bytes of the buffer
+     * are sent, the buffer itself is not modified.
+     *
+     * @param buffer The UTF-8 encoded body
+     * @return The response object
+     */
+    public Response bodyUtf8(ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, Required.BYTES);
+
+        setBody(buffer);
+        rendered = false;
+
+        return this;
+    }
+
+    /**
+     * Sets a writer which streams the body of the response. The body is sent in chunks
+     * while the writer writes to the output stream, thus the complete body is never held
+     * in memory. No rendering will be performed. The content type remains unchanged, e.g.
+     * set it to "text/csv" via {@link #contentType(String)}.
+     *
+     * @param writer The writer which writes the body to the output stream
+     * @return The response object
+     */
+    public Response bodyStream(StreamWriter writer) {
+        this.streamWriter = Objects.requireNonNull(writer, Required.STREAM_WRITER);
+        rendered = false;
+        streamed = true;
+
+        return this;
+    }
+
+    /**
+     * Streams the given records as newline delimited JSON (NDJSON), converting and sending
+     * one record at a time. The stream is closed once all records are sent. No rendering
+     * will be performed and the content type for the response will be set to
+     * "application/x-ndjson"
+     *
+     * @param records The records to convert to JSON
+     * @return The response object
+     */
+    public Response bodyJsonStream(Stream<?> records) {
+        Objects.requireNonNull(records, Required.STREAM);
+
+        bodyStream(outputStream -> {
+            try (records) {
+                var writer = JsonUtils.getMapper().writer();
+                Iterator<?> iterator = records.iterator();
+                while (iterator.hasNext()) {
+                    outputStream.write(writer.writeValueAsBytes(iterator.next()));
+                    outputStream.write('\n');
+                }
+            }
+        });
+        contentType = NDJSON;
+
+        return this;
+    }
+
     public Response bodyDefault() {
         this.contentType = MediaType.HTML_UTF_8.withoutParameters().toString();
         rendered = false;
         switch (statusCode) {
             case StatusCodes.OK:
-                this.body = Template.ok();
+                setBody(Template.ok());
                 break;
             case StatusCodes.UNAUTHORIZED:
-                this.body = Template.unauthorized();
+                setBody(Template.unauthorized());
                 break;
             case StatusCodes.NOT_FOUND:
-                this.body = Template.notFound();
+                setBody(Template.notFound());
                 break;
             case StatusCodes.FORBIDDEN:
-                this.body = Template.forbidden();
+                setBody(Template.forbidden());
                 break;
             case StatusCodes.INTERNAL_SERVER_ERROR:
-                this.body = Template.internalServerError();
+                setBody(Template.internalServerError());
                 break;
             case StatusCodes.BAD_REQUEST:
-                this.body = Template.badRequest();
+                setBody(Template.badRequest());
                 break;
             default:
-                this.body = Template.xxx().replace("###xxx###", String.valueOf(statusCode));
+                setBody(Template.xxx().replace("###xxx###", String.valueOf(statusCode)));
         }
 
         return this;
@@ -369,7 +630,7 @@ public class Response {
     public Response bodyJson(Object object) {
         Objects.requireNonNull(object, Required.OBJECT);
 
-        this.body = JsonUtils.toJson(object);
+        setBody(ByteBuffer.wrap(JsonUtils.toJsonBytes(object)));
         contentType = MediaType.JSON_UTF_8.withoutParameters().toString();
         rendered = false;
 
@@ -384,7 +645,7 @@ public class Response {
     public Response bodyJsonError(String message) {
         Objects.requireNonNull(message, Required.MESSAGE);
 
-        this.body = JsonUtils.toJson(Error.of(message, statusCode));
+        setBody(JsonUtils.toJson(Error.of(message, statusCode)));
         contentType = MediaType.JSON_UTF_8.withoutParameters().toString();
         rendered = false;
 
@@ -401,7 +662,7 @@ public class Response {
     public Response bodyJson(String json) {
         Objects.requireNonNull(json, Required.JSON);
 
-        this.body = json;
+        setBody(json);
         contentType = MediaType.JSON_UTF_8.withoutParameters().toString();
         rendered = false;
 
@@ -417,7 +678,11 @@ public class Response {
      * @return The response object
      */
     public Response bodyText(String text) {
-        this.body = text;
+        if (text != null) {
+            setBody(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)));
+        } else {
+            setBody((String) null);
+        }
         contentType = MediaType.PLAIN_TEXT_UTF_8.withoutParameters().toString();
         rendered = false;
 
@@ -0,0 +1,131 @@
+package io.mangoo.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.mangoo.cache.CacheImpl;
+import io.mangoo.cache.CacheProvider;
+import io.mangoo.constants.Required;
+import io.mangoo.core.Application;
+import io.mangoo.utils.Argument;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HttpString;
+import io.undertow.util.StatusCodes;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+public final class ResponseCache {
+    private static final long MAX_WEIGHT = 16L * 1024 * 1024;
+    private final Cache<String, Object> cache;
+    private final String[] varyBy;
+    private final boolean subject;
+
+    /**
+     * Creates a dedicated cache for the responses of a route and registers it
+     * at the CacheProvider, making its statistics available to the Admin Dashboard
+     *
+     * @param name The name of the cache
+     * @param ttl The time after which a cached response expires
+     * @param varyBy The request or query parameters the cached response varies by
+     * @param subject True if the cached response varies by the subject of the current authentication
+     */
+    public ResponseCache(String name, Duration ttl, String[] varyBy, boolean subject) {
+        Argument.requireNonBlank(name, Required.NAME);
+        Objects.requireNonNull(ttl, Required.TTL);
+        Objects.requireNonNull(varyBy, Required.VARY_BY);
+
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumWeight(MAX_WEIGHT)
+                .weigher((String key, Object value) -> key.length() + ((Entry) value).weight())
+                .recordStats()
+                .build();
+        this.varyBy = varyBy.clone();
+        this.subject = subject;
+
+        Application.getInstance(CacheProvider.class).addCache(name, new CacheImpl(cache));
+    }
+
+    /**
+     * Builds the cache key of the current request from the request path, the parameters
+     * the response varies by, the locale and optionally the authentication subject
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
+     * @return The cache key
+     */
+    public String getKey(HttpServerExchange exchange, Attachment attachment) {
+        var key = new StringBuilder(exchange.getRequestPath());
+        for (String name : varyBy) {
+            key.append('|').append(name).append('=').append(Objects.toString(attachment.getRequestParameter().get(name), ""));
+        }
+
+        key.append('|').append(attachment.getLocale());
+        if (subject) {
+            key.append('|').append(attachment.getAuthentication().getSubject());
+        }
+
+        return key.toString();
+    }
+
+    /**
+     * Retrieves a cached response
+     *
+     * @param key The cache key of the current request
+     * @return A new response object with the cached status, headers and body or null if none found
+     */
+    public Response get(String key) {
+        if (!(cache.getIfPresent(key) instanceof Entry entry)) {
+            return null;
+        }
+
+        return Response.status(entry.statusCode(), entry.contentType())
+                .headers(entry.headers())
+                .withBody(entry.body());
+    }
+
+    /**
+     * Caches the status, the given headers and the body of the given response if it is a
+     * successful response with a plain body which does not set cookies. Headers set by
+     * filters are not cached, as they may differ between requests.
+     *
+     * @param key The cache key of the current request
+     * @param response The final response of the request
+     * @param headers The headers set by the controller
+     */
+    public void put(String key, Response response, Map<HttpString, String> headers) {
+        Objects.requireNonNull(headers, Required.HEADERS);
+
+        if (isCacheable(response)) {
+            cache.put(key, new Entry(response.getStatusCode(), response.getContentType(), Collections.unmodifiableMap(new HashMap<>(headers)), response.getBodyBuffer()));
+        }
+    }
+
+    /**
+     * @return True if the cached response varies by the subject of the current authentication
+     */
+    public boolean isSubject() {
+        return subject;
+    }
+
+    private static boolean isCacheable(Response response) {
+        return response != null
+                && response.getStatusCode() == StatusCodes.OK
+                && response.isPlain();
+    }
+
+    private record Entry(int statusCode, String contentType, Map<HttpString, String> headers, ByteBuffer body) {
+        private int weight() {
+            var weight = body.remaining() + contentType.length();
+            for (Map.Entry<HttpString, String> header : headers.entrySet()) {
+                weight = weight + header.getKey().length() + Objects.toString(header.getValue(), "").length();
+            }
+
+            return weight;
+        }
+    }
+}
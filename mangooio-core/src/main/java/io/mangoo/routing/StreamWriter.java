@@ -0,0 +1,17 @@
+package io.mangoo.routing;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@FunctionalInterface
+public interface StreamWriter {
+    /**
+     * Writes the body of a streamed response. Everything written to the output stream
+     * is sent to the client in chunks while writing, blocking when the client does not
+     * keep up with reading.
+     *
+     * @param outputStream The output stream of the response, closed after writing
+     * @throws IOException when writing to the client fails
+     */
+    void write(OutputStream outputStream) throws IOException;
+}
@@ -7,7 +7,11 @@ import org.apache.commons.lang3.math.NumberUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serial;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -17,6 +21,7 @@ public class Form extends Validator {
     private static final long serialVersionUID = 2228639200039277653L;
     private boolean submitted;
     private boolean keep;
+    private transient List<FormFile> uploads;
     
     public Form() {
         //Empty constructor for Google guice
@@ -159,11 +164,67 @@ public class Form extends Validator {
      */
     public Optional<byte[]> getFile(String key) {
         Objects.requireNonNull(key, Required.KEY);
-        if (!files.isEmpty()) {
-            return Optional.of(files.get(key));
-        }
 
-        return Optional.empty();
+        return getFormFile(key).map(FormFile::getBytes);
+    }
+
+    /**
+     * Retrieves a single file of the form with its metadata, without reading
+     * files that are stored on disk into memory
+     *
+     * @param key The name of the form element
+     * @return Optional of FormFile
+     */
+    public Optional<FormFile> getFormFile(String key) {
+        Objects.requireNonNull(key, Required.KEY);
+
+        return Optional.ofNullable(files.get(key));
+    }
+
+    /**
+     * Retrieves the path of a single file of the form. A file held in memory
+     * is written to a temporary file, which is deleted once the request is completed.
+     *
+     * @param key The name of the form element
+     * @return Optional of Path
+     *
+     * @throws IOException If the file can not be written
+     */
+    public Optional<Path> getFilePath(String key) throws IOException {
+        Objects.requireNonNull(key, Required.KEY);
+
+        FormFile file = files.get(key);
+        return file != null ? Optional.of(file.getPath()) : Optional.empty();
+    }
+
+    /**
+     * Retrieves a new InputStream of a single file of the form, which has to be closed by the caller
+     *
+     * @param key The name of the form element
+     * @return Optional of InputStream
+     *
+     * @throws IOException If the file can not be opened
+     */
+    public Optional<InputStream> getFileInputStream(String key) throws IOException {
+        Objects.requireNonNull(key, Required.KEY);
+
+        FormFile file = files.get(key);
+        return file != null ? Optional.of(file.getInputStream()) : Optional.empty();
+    }
+
+    /**
+     * Retrieves a new read-only FileChannel of a single file of the form, which has to be closed by the caller
+     *
+     * @param key The name of the form element
+     * @return Optional of FileChannel
+     *
+     * @throws IOException If the file can not be opened
+     */
+    public Optional<FileChannel> getFileChannel(String key) throws IOException {
+        Objects.requireNonNull(key, Required.KEY);
+
+        FormFile file = files.get(key);
+        return file != null ? Optional.of(file.getChannel()) : Optional.empty();
     }
 
     /**
@@ -187,7 +248,34 @@ public class Form extends Validator {
         Objects.requireNonNull(inputStream, Required.INPUT_STREAM);
 
         try (var in = inputStream) {
-            files.put(key, in.readAllBytes());
+            addFile(key, FormFile.of(in.readAllBytes()));
+        }
+    }
+
+    /**
+     * Adds a file to the form
+     *
+     * @param key The name of the form element
+     * @param file The FormFile to add
+     */
+    public void addFile(String key, FormFile file) {
+        Objects.requireNonNull(key, Required.KEY);
+        Objects.requireNonNull(file, Required.FILE);
+
+        files.put(key, file);
+        if (uploads == null) {
+            uploads = new ArrayList<>();
+        }
+        uploads.add(file);
+    }
+
+    /**
+     * Deletes the temporary files created for the files of this form,
+     * even if the form has already been discarded
+     */
+    public void cleanup() {
+        if (uploads != null) {
+            uploads.forEach(FormFile::delete);
         }
     }
  
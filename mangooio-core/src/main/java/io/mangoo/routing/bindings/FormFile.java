@@ -0,0 +1,175 @@
+package io.mangoo.routing.bindings;
+
+import io.mangoo.constants.Required;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A file uploaded with a form, either held in memory or stored on disk. Files above
+ * the file size threshold are spooled to disk while they are uploaded and are only
+ * read into memory on request. The size and the first bytes of a file are kept as
+ * metadata, thus files can be validated without reading them completely.
+ * <p>
+ * As files stored on disk are deleted once the request is completed, a serialized
+ * form file always carries its content.
+ */
+public final class FormFile implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 4627718406113524187L;
+    private static final int HEADER_SIZE = 8192;
+    private final transient byte[] header;
+    private final long size;
+    private final byte[] content;
+    private transient String location;
+    private transient boolean temporary;
+
+    private FormFile(byte[] content, String location, long size, byte[] header) {
+        this.content = content;
+        this.location = location;
+        this.size = size;
+        this.header = header;
+    }
+
+    /**
+     * Creates a new form file held in memory
+     *
+     * @param content The content of the file
+     * @return A new FormFile
+     */
+    public static FormFile of(byte[] content) {
+        Objects.requireNonNull(content, Required.CONTENT);
+
+        return new FormFile(content, null, content.length, null);
+    }
+
+    /**
+     * Creates a new form file stored on disk, reading only the first bytes of the file
+     *
+     * @param path The path of the file
+     * @return A new FormFile
+     *
+     * @throws IOException If the file can not be read
+     */
+    public static FormFile of(Path path) throws IOException {
+        Objects.requireNonNull(path, Required.PATH);
+
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return new FormFile(null, path.toAbsolutePath().toString(), Files.size(path), inputStream.readNBytes(HEADER_SIZE));
+        }
+    }
+
+    /**
+     * @return The size of the file in bytes
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return The first bytes of the file, e.g. for detecting its mime type
+     */
+    public byte[] getHeader() {
+        if (header != null) {
+            return header.clone();
+        }
+
+        return Arrays.copyOf(content, Math.min(content.length, HEADER_SIZE));
+    }
+
+    /**
+     * @return True if the file is held in memory, false if it is stored on disk
+     */
+    public boolean isInMemory() {
+        return content != null;
+    }
+
+    /**
+     * Reads the complete file, which loads files stored on disk into memory
+     *
+     * @return The content of the file
+     */
+    public byte[] getBytes() {
+        if (content != null) {
+            return content;
+        }
+
+        try {
+            return Files.readAllBytes(Path.of(location));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return A new InputStream of the file, which has to be closed by the caller
+     *
+     * @throws IOException If the file can not be opened
+     */
+    public InputStream getInputStream() throws IOException {
+        if (content != null) {
+            return new ByteArrayInputStream(content);
+        }
+
+        return Files.newInputStream(Path.of(location));
+    }
+
+    /**
+     * Retrieves the path of the file. A file held in memory is written to a temporary
+     * file first, which is deleted once the request is completed.
+     *
+     * @return The path of the file
+     *
+     * @throws IOException If the file can not be written
+     */
+    public synchronized Path getPath() throws IOException {
+        if (location == null) {
+            Path path = Files.createTempFile("mangooio-upload-", ".tmp");
+            Files.write(path, content);
+            location = path.toString();
+            temporary = true;
+        }
+
+        return Path.of(location);
+    }
+
+    /**
+     * @return A new read-only FileChannel of the file, which has to be closed by the caller
+     *
+     * @throws IOException If the file can not be opened
+     */
+    public FileChannel getChannel() throws IOException {
+        return FileChannel.open(getPath(), StandardOpenOption.READ);
+    }
+
+    /**
+     * Deletes the temporary file written by {@link #getPath()}, if any. Files spooled
+     * to disk during the upload are deleted by Undertow once the request is completed.
+     */
+    public synchronized void delete() {
+        if (temporary) {
+            try {
+                Files.deleteIfExists(Path.of(location));
+            } catch (IOException e) { //NOSONAR Intentionally ignored, the file is a temporary file
+                // Ignore
+            }
+            location = null;
+            temporary = false;
+        }
+    }
+
+    @Serial
+    private Object writeReplace() {
+        return content != null ? this : FormFile.of(getBytes());
+    }
+}
@@ -2,6 +2,7 @@ package io.mangoo.routing.bindings;
 
 import io.mangoo.constants.Header;
 import io.mangoo.constants.Required;
+import io.mangoo.routing.RequestBody;
 import io.mangoo.utils.JsonUtils;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.server.handlers.Cookie;
@@ -15,15 +16,20 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public class Request {
     private transient HttpServerExchange httpServerExchange;
     private transient Session session;
+    private transient Supplier<Session> sessionSupplier;
     private transient Authentication authentication;
-    private transient Map<String, Cookie> cookies = new HashMap<>();
-    private transient Map<String, Object> attributes = new HashMap<>();
-    private String body = Strings.EMPTY;
+    private transient Supplier<Authentication> authenticationSupplier;
+    private transient Map<String, Cookie> cookies;
+    private transient Map<String, Object> attributes;
+    private transient RequestBody requestBody;
+    private String body;
     private String csrf = Strings.EMPTY;
+    private transient Supplier<String> csrfSupplier;
     private Map<String, String> parameter;
 
     public Request(){
@@ -34,7 +40,6 @@ public class Request {
         Objects.requireNonNull(httpServerExchange, Required.HTTP_SERVER_EXCHANGE);
 
         this.httpServerExchange = httpServerExchange;
-        this.httpServerExchange.requestCookies().forEach(cookie -> this.cookies.put(cookie.getName(), cookie));
     }
 
     public Request withSession(Session session) {
@@ -42,15 +47,52 @@ public class Request {
         return this;
     }
     
+    /**
+     * Sets the lazy session, which is created not before
+     * {@link #getSession()} is called for the first time
+     *
+     * @param sessionSupplier The supplier of the session
+     * @return Request instance
+     */
+    public Request withSession(Supplier<Session> sessionSupplier) {
+        this.sessionSupplier = sessionSupplier;
+        return this;
+    }
+
     public Request withAuthentication(Authentication authentication) {
         this.authentication = authentication;
         return this;
     }
 
+    /**
+     * Sets the lazy authentication, which is created not before
+     * {@link #getAuthentication()} is called for the first time
+     *
+     * @param authenticationSupplier The supplier of the authentication
+     * @return Request instance
+     */
+    public Request withAuthentication(Supplier<Authentication> authenticationSupplier) {
+        this.authenticationSupplier = authenticationSupplier;
+        return this;
+    }
+
     public Request withCsrf(String csrf) {
         this.csrf = csrf;
         return this;
     }
+
+    /**
+     * Sets the lazy client sent authenticity token, which is looked up
+     * not before {@link #hasValidCsrf()} is called for the first time
+     *
+     * @param csrfSupplier The supplier of the authenticity token
+     * @return Request instance
+     */
+    public Request withCsrf(Supplier<String> csrfSupplier) {
+        this.csrf = null;
+        this.csrfSupplier = csrfSupplier;
+        return this;
+    }
     
     public Request withParameter(Map<String, String> parameter) {
         this.parameter = parameter;
@@ -61,11 +103,27 @@ public class Request {
         this.body = (body != null) ? body : Strings.EMPTY;
         return this;
     }
+
+    /**
+     * Sets the lazy request body, which is read from the request
+     * not before {@link #getBody()} is called for the first time
+     *
+     * @param requestBody The lazy request body
+     * @return Request instance
+     */
+    public Request withBody(RequestBody requestBody) {
+        this.requestBody = requestBody;
+        return this;
+    }
     
     /**
      * @return The current session
      */
     public Session getSession() {
+        if (session == null && sessionSupplier != null) {
+            session = sessionSupplier.get();
+        }
+
         return session;
     }
 
@@ -74,6 +132,10 @@ public class Request {
      * @return The request body
      */
     public String getBody() {
+        if (body == null) {
+            body = (requestBody != null) ? requestBody.getString() : Strings.EMPTY;
+        }
+
         return body;
     }
 
@@ -83,8 +145,9 @@ public class Request {
      */
     @SuppressWarnings("unchecked")
     public Map<String, Object> getBodyAsJsonMap() {
-        if (StringUtils.isNotBlank(body)) {
-            return JsonUtils.toObject(body, Map.class);
+        String json = getBody();
+        if (StringUtils.isNotBlank(json)) {
+            return JsonUtils.toObject(json, Map.class);
         }
         
         return new HashMap<>();
@@ -97,15 +160,24 @@ public class Request {
      * @return True if the token matches, false otherwise
      */
     public boolean hasValidCsrf() {
-        return StringUtils.isNotBlank(session.getCsrf())
+        if (csrf == null && csrfSupplier != null) {
+            csrf = csrfSupplier.get();
+        }
+
+        var currentSession = getSession();
+        return StringUtils.isNotBlank(currentSession.getCsrf())
                 && StringUtils.isNotBlank(csrf)
-                && session.getCsrf().equals(csrf);
+                && currentSession.getCsrf().equals(csrf);
     }
 
     /**
      * @return The current authentication
      */
     public Authentication getAuthentication() {
+        if (authentication == null && authenticationSupplier != null) {
+            authentication = authenticationSupplier.get();
+        }
+
         return authentication;
     }
 
@@ -201,6 +273,13 @@ public class Request {
      * @return An immutable map of request cookies
      */
     public Map<String, Cookie> getCookies() {
+        if (cookies == null) {
+            cookies = new HashMap<>();
+            if (httpServerExchange != null) {
+                httpServerExchange.requestCookies().forEach(cookie -> cookies.put(cookie.getName(), cookie));
+            }
+        }
+
         return cookies;
     }
 
@@ -211,7 +290,22 @@ public class Request {
      * @return The Cookie
      */
     public Cookie getCookie(String name) {
-        return cookies.get(name);
+        if (cookies == null && httpServerExchange != null) {
+            return httpServerExchange.getRequestCookie(name);
+        }
+
+        return getCookies().get(name);
+    }
+
+    /**
+     * Returns the address of the client, which is the address of the last proxy if the
+     * request was forwarded and no proxy peer address handling is configured
+     *
+     * @return The remote IP address or host of the client
+     */
+    public String getRemoteAddress() {
+        var address = httpServerExchange.getSourceAddress();
+        return address != null ? address.getHostString() : Strings.EMPTY;
     }
 
     /**
@@ -241,7 +335,7 @@ public class Request {
      */
     public void addAttribute(String key, Object value) {
         Objects.requireNonNull(key, Required.KEY);
-        attributes.put(key, value);
+        getAttributes().put(key, value);
     }
 
     /**
@@ -284,7 +378,7 @@ public class Request {
     @SuppressWarnings("unchecked")
     public <T> T getAttribute(String key) {
         Objects.requireNonNull(key, Required.KEY);
-        return (T) attributes.get(key);
+        return (T) getAttributes().get(key);
     }
     
     /**
@@ -295,7 +389,7 @@ public class Request {
      */
     public String getAttributeAsString(String key) {
         Objects.requireNonNull(key, Required.KEY);
-        var object = attributes.get(key);
+        var object = getAttributes().get(key);
         
         return object != null ? (String) object : null;
     }
@@ -304,6 +398,10 @@ public class Request {
      * @return All attributes of the request
      */
     public Map<String, Object> getAttributes() {
+        if (attributes == null) {
+            attributes = new HashMap<>();
+        }
+
         return attributes;
     }
 }
\ No newline at end of file
@@ -15,6 +15,7 @@ public class Session {
     private static final Set<String> INVALID_CHARACTERS = Set.of("|", ":", "&", " ");
     private Map<String, String> values = new HashMap<>();
     private String csrf;
+    private String id;
     private LocalDateTime expires;
     private boolean changed;
     private boolean invalid;
@@ -38,6 +39,13 @@ public class Session {
         return this;
     }
 
+    public Session withId(String id) {
+        Objects.requireNonNull(id, Required.ID);
+
+        this.id = id;
+        return this;
+    }
+
     public Session withCsrf(String csrf) {
         Objects.requireNonNull(csrf, Required.CSRF);
 
@@ -89,6 +97,13 @@ public class Session {
         return expires;
     }
 
+    /**
+     * @return The ID of the session in a session store or null if the session is not stored yet
+     */
+    public String getId() {
+        return id;
+    }
+
     /**
      * @return The csrf token of the session
      */
@@ -13,8 +13,8 @@ import org.apache.commons.validator.routines.InetAddressValidator;
 import org.apache.commons.validator.routines.UrlValidator;
 import org.apache.logging.log4j.util.Strings;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.*;
@@ -22,11 +22,11 @@ import java.util.regex.Pattern;
 
 public class Validator implements Serializable {
     @Serial
-    private static final long serialVersionUID = -714400230978999709L;
+    private static final long serialVersionUID = 3318470861724306541L;
     private final Map<String, String> errors = new HashMap<>();
     private final Messages messages;
     protected Map<String, String> values = new HashMap<>(); // NOSONAR Intentionally not transient
-    protected Map<String, byte[]> files = new HashMap<>(); // NOSONAR Intentionally not transient
+    protected Map<String, FormFile> files = new HashMap<>(); // NOSONAR Intentionally not transient
 
     @Inject
     public Validator(Messages messages) {
@@ -37,8 +37,27 @@ public class Validator implements Serializable {
         this.messages = Application.getInstance(Messages.class);
     }
 
+    @Serial
+    private void writeObject(ObjectOutputStream objectOutputStream) throws IOException {
+        // Files stored on disk are deleted once the request is completed and are too large to be kept, e.g. in the flash cookie
+        Map<String, FormFile> inMemory = new HashMap<>();
+        files.forEach((name, file) -> {
+            if (file.isInMemory()) {
+                inMemory.put(name, file);
+            }
+        });
+
+        ObjectOutputStream.PutField fields = objectOutputStream.putFields();
+        fields.put("errors", errors);
+        fields.put("messages", messages);
+        fields.put("values", values);
+        fields.put("files", inMemory);
+        objectOutputStream.writeFields();
+    }
+
     /**
-     * Validates a given file upload to have one of the allowed mime types
+     * Validates a given file upload to have one of the allowed mime types. The mime type
+     * is detected from the first bytes of the file, without reading the whole file.
      *
      * @param name The name of the field
      * @param message A custom error message instead of the default one
@@ -48,19 +67,14 @@ public class Validator implements Serializable {
         Objects.requireNonNull(name, Required.NAME);
         Objects.requireNonNull(allowedMimeTypes, Required.ALLOWED_MIME_TYPES);
 
-        byte[] bytes = files.get(name);
-        if (bytes != null) {
-            try (var bais = new ByteArrayInputStream(bytes)) {
-                String detectedType = FileUtils.getMimeType(bais);
+        FormFile file = files.get(name);
+        if (file != null) {
+            String detectedType = FileUtils.getMimeType(file.getHeader());
 
-                boolean allowed = allowedMimeTypes.stream()
-                        .anyMatch(type -> type.equalsIgnoreCase(detectedType));
+            boolean allowed = allowedMimeTypes.stream()
+                    .anyMatch(type -> type.equalsIgnoreCase(detectedType));
 
-                if (!allowed) {
-                    addError(name, Optional.ofNullable(message)
-                            .orElse(messages.get(Validation.MIME_TYPE_KEY, name)));
-                }
-            } catch (IOException e) {
+            if (!allowed) {
                 addError(name, Optional.ofNullable(message)
                         .orElse(messages.get(Validation.MIME_TYPE_KEY, name)));
             }
@@ -90,15 +104,9 @@ public class Validator implements Serializable {
     public void expectFileMaxSize(String name, long maxFileSizeBytes, String message) {
         Objects.requireNonNull(name, Required.NAME);
 
-        byte[] bytes = files.get(name);
-        if (bytes != null) {
-            try {
-                long totalSize = bytes.length;
-                if (totalSize > maxFileSizeBytes) {
-                    addError(name, Optional.ofNullable(message)
-                            .orElse(messages.get(Validation.FILE_SIZE_KEY, name)));
-                }
-            } catch (Exception e) {
+        FormFile file = files.get(name);
+        if (file != null) {
+            if (file.getSize() > maxFileSizeBytes) {
                 addError(name, Optional.ofNullable(message)
                         .orElse(messages.get(Validation.FILE_SIZE_KEY, name)));
             }
@@ -173,9 +181,9 @@ public class Validator implements Serializable {
      */
     public void expectFile(String name, String message) {
         Objects.requireNonNull(name, Required.NAME);
-        byte[] bytes = files.get(name);
+        FormFile file = files.get(name);
 
-        if (bytes == null || bytes.length == 0) {
+        if (file == null || file.getSize() == 0) {
             addError(name, Optional.ofNullable(message).orElse(messages.get(Validation.FILE_KEY, name)));
         }
     }
@@ -4,7 +4,6 @@ import io.mangoo.constants.Header;
 import io.mangoo.constants.Key;
 import io.mangoo.constants.Required;
 import io.mangoo.constants.Template;
-import io.mangoo.core.Application;
 import io.mangoo.core.Config;
 import io.mangoo.core.Server;
 import io.mangoo.routing.Attachment;
@@ -18,7 +17,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Objects;
 
-public class AuthenticationHandler implements HttpHandler {
+public class AuthenticationHandler extends ChainHandler {
     private final Config config;
     
     @Inject
@@ -27,7 +26,7 @@ public class AuthenticationHandler implements HttpHandler {
     }
     
     @Override
-    public void handleRequest(HttpServerExchange exchange) throws Exception {
+    public void handleRequest(HttpServerExchange exchange, HttpHandler next) throws Exception {
         Attachment attachment = exchange.getAttachment(RequestUtils.getAttachmentKey());
         
         if (attachment.hasAuthentication()) {
@@ -48,10 +47,10 @@ public class AuthenticationHandler implements HttpHandler {
                     endRequest(exchange);
                 }
             } else {
-                nextHandler(exchange);
+                next.handleRequest(exchange);
             }
         } else {
-            nextHandler(exchange); 
+            next.handleRequest(exchange); 
         }
     }
     
@@ -62,11 +61,7 @@ public class AuthenticationHandler implements HttpHandler {
     private void endRequest(HttpServerExchange exchange, String redirect) {
         exchange.setStatusCode(StatusCodes.FOUND);
         
-        Server.headers()
-            .entrySet()
-            .stream()
-            .filter(entry -> StringUtils.isNotBlank(entry.getValue()))
-            .forEach(entry -> exchange.getResponseHeaders().put(entry.getKey(), entry.getValue()));
+        Server.addHeaders(exchange.getResponseHeaders());
 
         if (config.isAuthOrigin()) {
             redirect = redirect + "?origin=" + exchange.getRequestURI();
@@ -82,23 +77,9 @@ public class AuthenticationHandler implements HttpHandler {
     private void endRequest(HttpServerExchange exchange) {
         exchange.setStatusCode(StatusCodes.FORBIDDEN);
         
-        Server.headers()
-            .entrySet()
-            .stream()
-            .filter(entry -> StringUtils.isNotBlank(entry.getValue()))
-            .forEach(entry -> exchange.getResponseHeaders().add(entry.getKey(), entry.getValue()));
+        Server.addHeaders(exchange.getResponseHeaders());
 
         exchange.getResponseHeaders().add(Headers.CONTENT_TYPE, "text/html; charset=utf-8");
         exchange.getResponseSender().send(Template.unauthorized());
     }
-    
-    /**
-     * Handles the next request in the handler chain
-     *
-     * @param exchange The HttpServerExchange
-     * @throws Exception Thrown when an exception occurs
-     */
-    protected void nextHandler(HttpServerExchange exchange) throws Exception {
-        Application.getInstance(FormHandler.class).handleRequest(exchange);
-    }
 }
\ No newline at end of file
@@ -35,11 +35,7 @@ public class BinaryHandler implements HttpHandler {
 
         exchange.getResponseHeaders().put(Headers.CONTENT_LENGTH, response.getBinaryBody().length);
 
-        Server.headers()
-                .entrySet()
-                .stream()
-                .filter(entry -> StringUtils.isNotBlank(entry.getValue()))
-                .forEach(entry -> exchange.getResponseHeaders().add(entry.getKey(), entry.getValue()));
+        Server.addHeaders(exchange.getResponseHeaders());
 
         response.getHeaders().forEach((key, value) -> exchange.getResponseHeaders().add(key, value));
         exchange.getOutputStream().write(response.getBinaryBody());
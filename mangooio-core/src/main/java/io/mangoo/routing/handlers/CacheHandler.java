@@ -0,0 +1,45 @@
+package io.mangoo.routing.handlers;
+
+import io.mangoo.constants.Required;
+import io.mangoo.routing.ResponseCache;
+import io.mangoo.utils.RequestUtils;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+
+import java.util.Objects;
+
+public class CacheHandler extends ChainHandler {
+    private final ResponseCache responseCache;
+    private final HttpHandler hit;
+
+    /**
+     * Creates the cache handler of a route
+     *
+     * @param responseCache The response cache of the route
+     * @param hit The handler to continue with if a cached response is found, skipping all handlers in between
+     */
+    public CacheHandler(ResponseCache responseCache, HttpHandler hit) {
+        this.responseCache = Objects.requireNonNull(responseCache, Required.RESPONSE_CACHE);
+        this.hit = Objects.requireNonNull(hit, Required.NEXT_HANDLER);
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange, HttpHandler next) throws Exception {
+        var attachment = exchange.getAttachment(RequestUtils.getAttachmentKey());
+        String key = responseCache.getKey(exchange, attachment);
+
+        var response = responseCache.get(key);
+        if (response != null) {
+            attachment.setResponse(response);
+            hit.handleRequest(exchange);
+            return;
+        }
+
+        next.handleRequest(exchange);
+        // Responses of filters, responses depending on the current user and responses setting cookies are not shared
+        var headers = attachment.getControllerHeaders();
+        if (headers != null && !attachment.isPersonalized(responseCache.isSubject()) && !exchange.responseCookies().iterator().hasNext()) {
+            responseCache.put(key, attachment.getResponse(), headers);
+        }
+    }
+}
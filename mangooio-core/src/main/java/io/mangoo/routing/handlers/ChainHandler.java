@@ -0,0 +1,38 @@
+package io.mangoo.routing.handlers;
+
+import io.mangoo.constants.Required;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+
+import java.util.Objects;
+
+public abstract class ChainHandler {
+
+    /**
+     * Handles the request and continues with the given handler
+     *
+     * @param exchange The HttpServerExchange
+     * @param next The next handler in the handler chain of the route
+     * @throws Exception Thrown when an exception occurs
+     */
+    public abstract void handleRequest(HttpServerExchange exchange, HttpHandler next) throws Exception;
+
+    /**
+     * Creates an immutable link of the precompiled handler chain of a route, which
+     * calls this handler and continues with the given handler. The handler itself
+     * holds no state of the chain and can therefore be shared by all routes.
+     *
+     * @param next The next handler in the chain
+     * @return The linked handler
+     */
+    public HttpHandler withNext(HttpHandler next) {
+        return new Link(this, Objects.requireNonNull(next, Required.NEXT_HANDLER));
+    }
+
+    private record Link(ChainHandler handler, HttpHandler next) implements HttpHandler {
+        @Override
+        public void handleRequest(HttpServerExchange exchange) throws Exception {
+            handler.handleRequest(exchange, next);
+        }
+    }
+}
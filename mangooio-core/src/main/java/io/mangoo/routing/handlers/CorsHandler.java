@@ -1,7 +1,6 @@
 package io.mangoo.routing.handlers;
 
 import io.mangoo.constants.Required;
-import io.mangoo.core.Application;
 import io.mangoo.core.Config;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
@@ -12,7 +11,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Objects;
 
-public class CorsHandler implements HttpHandler {
+public class CorsHandler extends ChainHandler {
     private static final String ACCESS_CONTROL_ALLOW_ORIGIN = "Access-Control-Allow-Origin";
     private static final String ACCESS_CONTROL_ALLOW_CREDENTIALS = "Access-Control-Allow-Credentials";
     private static final String ACCESS_CONTROL_ALLOW_HEADERS = "Access-Control-Allow-Headers";
@@ -27,11 +26,11 @@ public class CorsHandler implements HttpHandler {
     }
     
     @Override
-    public void handleRequest(HttpServerExchange exchange) throws Exception {
+    public void handleRequest(HttpServerExchange exchange, HttpHandler next) throws Exception {
         if (config.isCorsEnable() && config.getCorsUrlPattern().matcher(exchange.getRequestURL()).matches()) {
             applyHeader(exchange);
         }
-        nextHandler(exchange);
+        next.handleRequest(exchange);
     }
     
     private void applyHeader(HttpServerExchange exchange) {
@@ -75,14 +74,4 @@ public class CorsHandler implements HttpHandler {
     private void addHeader(HttpServerExchange exchange, String name, String value) {
         exchange.getResponseHeaders().add(HttpString.tryFromString(name), value);
     }
-
-    /**
-     * Handles the next request in the handler chain
-     *
-     * @param exchange The HttpServerExchange
-     * @throws Exception Thrown when an exception occurs
-     */
-    protected void nextHandler(HttpServerExchange exchange) throws Exception {
-        Application.getInstance(ResponseHandler.class).handleRequest(exchange);
-    }
 }
\ No newline at end of file
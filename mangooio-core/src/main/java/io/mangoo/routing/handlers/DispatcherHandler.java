@@ -1,49 +1,95 @@
 package io.mangoo.routing.handlers;
 
+import io.mangoo.annotations.CachedResponse;
 import io.mangoo.annotations.FilterWith;
+import io.mangoo.annotations.RateLimit;
+import io.mangoo.constants.CacheName;
+import io.mangoo.constants.Header;
+import io.mangoo.constants.Key;
 import io.mangoo.constants.Required;
 import io.mangoo.core.Application;
+import io.mangoo.core.Config;
+import io.mangoo.enums.Dispatch;
+import io.mangoo.enums.Http;
+import io.mangoo.enums.Priority;
+import io.mangoo.enums.SessionStorage;
+import io.mangoo.filters.RateLimitFilter;
 import io.mangoo.i18n.Messages;
 import io.mangoo.interfaces.filters.OncePerRequestFilter;
+import io.mangoo.interfaces.filters.PerRequestFilter;
+import io.mangoo.models.Metrics;
 import io.mangoo.routing.Attachment;
+import io.mangoo.routing.Coalescer;
+import io.mangoo.routing.Deadline;
+import io.mangoo.routing.Invoker;
+import io.mangoo.routing.Limiter;
+import io.mangoo.routing.RequestParameters;
+import io.mangoo.routing.ResponseCache;
+import io.mangoo.routing.bindings.Authentication;
+import io.mangoo.routing.bindings.Flash;
+import io.mangoo.routing.bindings.Form;
+import io.mangoo.routing.bindings.Session;
+import io.mangoo.routing.routes.RequestRoute;
 import io.mangoo.templating.TemplateEngine;
 import io.mangoo.utils.RequestUtils;
 import io.mangoo.utils.internal.Trace;
+import io.mangoo.utils.internal.VirtualThreads;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.util.StatusCodes;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class DispatcherHandler implements HttpHandler {
+    private static final Map<Class<?>, RateLimitFilter> CLASS_RATE_LIMITS = new ConcurrentHashMap<>();
     private static final int INITIAL_CAPACITY = 50;
     private final Method method;
     private final List<Annotation> methodAnnotations;
     private final List<Annotation> classAnnotations;
+    private final List<String> handlerChain;
     private final TemplateEngine templateEngine;
     private final Messages messages;
     private final Map<String, Class<?>> methodParameters;
     private final Class<?> controllerClass;
     private final String controllerClassName;
     private final String controllerMethodName;
+    private final HttpHandler next;
+    private final Invoker invoker;
+    private final Metrics metrics;
+    private final ResponseCache responseCache;
+    private final Coalescer coalescer;
+    private final Limiter limiter;
+    private final Priority priority;
+    private final Duration timeout;
+    private final Runnable timedOut;
     private final int methodParametersCount;
     private final boolean requestFilter;
     private final boolean blocking;
     private final boolean authentication;
+    private final boolean cookies;
+    private final boolean form;
+    private final boolean virtual;
+    private final boolean etag;
 
-    public DispatcherHandler(Class<?> controllerClass, String controllerMethodName, boolean blocking, boolean authentication) {
-        Objects.requireNonNull(controllerClass, Required.CONTROLLER_CLASS);
-        Objects.requireNonNull(controllerMethodName, Required.CONTROLLER_METHOD);
+    public DispatcherHandler(RequestRoute requestRoute) {
+        Objects.requireNonNull(requestRoute, Required.ROUTE);
+        Objects.requireNonNull(requestRoute.getControllerClass(), Required.CONTROLLER_CLASS);
+        Objects.requireNonNull(requestRoute.getControllerMethod(), Required.CONTROLLER_METHOD);
 
-        this.controllerClass = controllerClass;
-        this.controllerMethodName = controllerMethodName;
+        this.controllerClass = requestRoute.getControllerClass();
+        this.controllerMethodName = requestRoute.getControllerMethod();
         this.controllerClassName = controllerClass.getSimpleName();
-        this.blocking = blocking;
-        this.authentication = authentication;
+        this.authentication = requestRoute.hasAuthentication();
+        this.cookies = requestRoute.hasCookies();
+        this.form = requestRoute.getMethod() == Http.POST || requestRoute.getMethod() == Http.PUT || requestRoute.getMethod() == Http.PATCH;
         this.templateEngine = Application.getInstance(TemplateEngine.class);
         this.messages = Application.getInstance(Messages.class);
+        this.metrics = Application.getInstance(Metrics.class);
         this.requestFilter =
                 Application.getInjector()
                         .getAllBindings()
@@ -73,7 +119,7 @@ public final class DispatcherHandler implements HttpHandler {
                 methodAnn.add(annotation);
             }
         }
-        this.methodAnnotations = Collections.unmodifiableList(methodAnn);
+        this.methodAnnotations = List.copyOf(methodAnn);
 
         List<Annotation> classAnn = new ArrayList<>();
         for (Annotation annotation : controllerClass.getAnnotations()) {
@@ -81,13 +127,59 @@ public final class DispatcherHandler implements HttpHandler {
                 classAnn.add(annotation);
             }
         }
-        this.classAnnotations = Collections.unmodifiableList(classAnn);
+        this.classAnnotations = List.copyOf(classAnn);
+
+        List<Class<? extends PerRequestFilter>> filters = new ArrayList<>();
+        for (Annotation annotation : classAnnotations) {
+            filters.addAll(Arrays.asList(((FilterWith) annotation).value()));
+        }
+        for (Annotation annotation : methodAnnotations) {
+            filters.addAll(Arrays.asList(((FilterWith) annotation).value()));
+        }
+        var config = Application.getInstance(Config.class);
+        this.invoker = new Invoker(resolvedMethod, filters, getRouteFilters(requestRoute, resolvedMethod, config), requestFilter);
+
+        this.responseCache = getResponseCache(requestRoute, resolvedMethod);
+        this.coalescer = requestRoute.getCoalescingTimeout() != null && requestRoute.getMethod() == Http.GET
+                ? new Coalescer(requestRoute.getCoalescingTimeout(), requestRoute.hasAuthentication(), metrics)
+                : null;
+
+        this.timeout = Optional.ofNullable(requestRoute.getTimeout())
+                .orElse(config.getUndertowTimeout() > 0 ? Duration.ofSeconds(config.getUndertowTimeout()) : null);
+        // Waiting for a coalesced or timed response or for sessions in the datastore must never block the I/O thread
+        boolean datastoreSessions = cookies && SessionStorage.fromString(config.getSessionStoreMode()) == SessionStorage.DATASTORE;
+        this.blocking = requestRoute.isBlocking() || timeout != null || coalescer != null || datastoreSessions;
+        String route = requestRoute.getMethod() + " " + requestRoute.getUrl();
+        this.timedOut = () -> metrics.incrementTimeouts(route);
+
+        var admission = Application.getInstance(Limiter.class);
+        this.limiter = admission.isEnabled() ? admission : null;
+        this.priority = requestRoute.getPriority();
+        var dispatch = Optional.ofNullable(requestRoute.getDispatch()).orElse(Dispatch.fromString(config.getUndertowDispatch()));
+        this.virtual = dispatch == Dispatch.VIRTUAL;
+        this.etag = (requestRoute.hasETag() || config.isETagEnable())
+                && (requestRoute.getMethod() == Http.GET || requestRoute.getMethod() == Http.HEAD);
+        if (virtual) {
+            VirtualThreads.startPinningDetection();
+        }
+
+        List<String> chain = new ArrayList<>();
+        this.next = getHandlers(config, chain);
+        this.handlerChain = List.copyOf(chain);
+
+        requestRoute.withHandlerChain(handlerChain);
     }
 
     @Override
     public void handleRequest(HttpServerExchange exchange) throws Exception {
+        if (limiter != null && exchange.isInIoThread() && !admit(exchange)) {
+            return;
+        }
+
         if ((RequestUtils.isPostPutPatch(exchange) || blocking) && exchange.isInIoThread()) {
-            exchange.dispatch(this);
+            if (!form || !FormHandler.parse(exchange, this::dispatch)) {
+                dispatch(exchange);
+            }
             return;
         }
 
@@ -101,18 +193,256 @@ public final class DispatcherHandler implements HttpHandler {
                 .withMethodAnnotations(methodAnnotations)
                 .withMethodParameters(methodParameters)
                 .withMethod(method)
+                .withInvoker(invoker)
                 .withMethodParameterCount(methodParametersCount)
                 .withRequestFilter(requestFilter)
-                .withRequestParameter(RequestUtils.getRequestParameters(exchange))
+                .withRequestParameter(new RequestParameters(exchange))
                 .withMessages(messages)
                 .withAuthentication(authentication)
                 .withTemplateEngine(templateEngine);
 
+        if (!cookies) {
+            attachment.setSession(Session::create);
+            attachment.setAuthentication(Authentication::create);
+            attachment.setFlash(Flash::create);
+        }
+
+        if (!form) {
+            attachment.setForm(new Form());
+        }
+
+        attachment.setCoalescer(coalescer);
+
+        if (timeout == null) {
+            exchange.putAttachment(RequestUtils.getAttachmentKey(), attachment);
+            next.handleRequest(exchange);
+            return;
+        }
+
+        var deadline = new Deadline(timeout, timedOut);
+        attachment.setDeadline(deadline);
         exchange.putAttachment(RequestUtils.getAttachmentKey(), attachment);
-        nextHandler(exchange);
+        handleRequest(exchange, deadline);
+    }
+
+    /**
+     * Handles the request until the given deadline expires. Exceptions of requests whose
+     * deadline expired are dropped, and the client is answered with 503 Service Unavailable
+     * by this thread once the request is released, as the exchange is not thread-safe.
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param deadline The deadline of the request
+     * @throws Exception when the request handling fails in time
+     */
+    private void handleRequest(HttpServerExchange exchange, Deadline deadline) throws Exception {
+        deadline.start(exchange);
+        try {
+            next.handleRequest(exchange);
+        } catch (Exception e) {
+            if (deadline.complete()) {
+                throw e;
+            }
+        } finally {
+            if (!deadline.complete()) {
+                Deadline.end(exchange);
+            }
+        }
+    }
+
+    /**
+     * Admits the request if the concurrency limit of its priority class is not exceeded,
+     * otherwise rejects it right away with 503 Service Unavailable and Retry-After,
+     * before it is dispatched to a worker or virtual thread
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @return True if the request is admitted, false if it was rejected
+     */
+    private boolean admit(HttpServerExchange exchange) {
+        if (!limiter.acquire(priority)) {
+            exchange.setStatusCode(StatusCodes.SERVICE_UNAVAILABLE);
+            exchange.getResponseHeaders().put(Header.RETRY_AFTER, limiter.getRetryAfter());
+            exchange.endExchange();
+            return false;
+        }
+
+        long start = System.nanoTime();
+        exchange.addExchangeCompleteListener((completed, nextListener) -> {
+            limiter.release(start);
+            nextListener.proceed();
+        });
+
+        return true;
     }
 
-    private void nextHandler(HttpServerExchange exchange) throws Exception {
-        Application.getInstance(LocaleHandler.class).handleRequest(exchange);
+    /**
+     * Dispatches the request from the I/O thread to a worker or virtual thread
+     *
+     * @param exchange The Undertow HttpServerExchange
+     */
+    private void dispatch(HttpServerExchange exchange) {
+        if (virtual) {
+            exchange.dispatch(VirtualThreads.executor(), this::handleVirtualRequest);
+        } else {
+            exchange.dispatch(this);
+        }
+    }
+
+    /**
+     * Handles the request on a virtual thread, keeping track of the number of
+     * requests currently running on virtual threads
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @throws Exception when the request handling fails
+     */
+    private void handleVirtualRequest(HttpServerExchange exchange) throws Exception {
+        metrics.incrementVirtualTasks();
+        try {
+            handleRequest(exchange);
+        } finally {
+            metrics.decrementVirtualTasks();
+        }
+    }
+
+    /**
+     * @return The names of the handlers of this route in order of execution
+     */
+    public List<String> getHandlerChain() {
+        return handlerChain;
+    }
+
+    /**
+     * Resolves the handlers this route requires, skipping all stages the
+     * route can not use, and links them to the handler chain of the route.
+     * The handlers are resolved once at startup, thus custom handlers bound
+     * via Google Guice are honored.
+     *
+     * @param config The application config
+     * @param chain Receives the names of the handlers in order of execution
+     * @return The first handler of the chain
+     */
+    private HttpHandler getHandlers(Config config, List<String> chain) {
+        List<ChainHandler> response = new ArrayList<>();
+        if (config.isCorsEnable()) {
+            response.add(Application.getInstance(CorsHandler.class));
+        }
+
+        if (etag) {
+            response.add(Application.getInstance(ETagHandler.class));
+        }
+
+        HttpHandler responseHandler = Application.getInstance(ResponseHandler.class);
+        HttpHandler hit = link(response, responseHandler);
+
+        List<ChainHandler> handlers = new ArrayList<>();
+        handlers.add(Application.getInstance(LocaleHandler.class));
+
+        CacheHandler cacheHandler = responseCache != null ? new CacheHandler(responseCache, hit) : null;
+        if (cacheHandler != null && !responseCache.isSubject()) {
+            handlers.add(cacheHandler);
+        }
+
+        if (cookies) {
+            handlers.add(Application.getInstance(InboundCookiesHandler.class));
+        }
+
+        if (authentication) {
+            handlers.add(Application.getInstance(AuthenticationHandler.class));
+        }
+
+        if (cacheHandler != null && responseCache.isSubject()) {
+            handlers.add(cacheHandler);
+        }
+
+        if (form) {
+            handlers.add(Application.getInstance(FormHandler.class));
+        }
+
+        handlers.add(Application.getInstance(RequestHandler.class));
+
+        if (cookies) {
+            handlers.add(Application.getInstance(OutboundCookiesHandler.class));
+        }
+
+        handlers.forEach(handler -> chain.add(handler.getClass().getSimpleName()));
+        response.forEach(handler -> chain.add(handler.getClass().getSimpleName()));
+        chain.add(responseHandler.getClass().getSimpleName());
+
+        return link(handlers, hit);
+    }
+
+    /**
+     * Creates the response cache of a GET route, if configured via the route or
+     * the CachedResponse annotation of the controller method
+     *
+     * @param requestRoute The request route
+     * @param method The controller method
+     * @return The response cache or null if the route is not cached
+     */
+    private static ResponseCache getResponseCache(RequestRoute requestRoute, Method method) {
+        if (requestRoute.getMethod() != Http.GET) {
+            return null;
+        }
+
+        String name = CacheName.RESPONSE + " " + requestRoute.getUrl();
+        if (requestRoute.getCacheTtl() != null) {
+            return new ResponseCache(name, requestRoute.getCacheTtl(), requestRoute.getCacheVaryBy(), requestRoute.hasAuthentication());
+        }
+
+        var cachedResponse = method.getAnnotation(CachedResponse.class);
+        if (cachedResponse != null) {
+            return new ResponseCache(name, Duration.ofSeconds(cachedResponse.ttl()), cachedResponse.varyBy(), cachedResponse.subject() || requestRoute.hasAuthentication());
+        }
+
+        return null;
+    }
+
+    /**
+     * Creates the filter instances of the route, which is a rate limit if configured
+     * via the route or the RateLimit annotation of the controller method or class.
+     * A class annotation creates a single filter shared by all routes of the class.
+     *
+     * @param requestRoute The request route
+     * @param method The controller method
+     * @param config The application config
+     * @return The route filters in order of execution
+     */
+    private static List<PerRequestFilter> getRouteFilters(RequestRoute requestRoute, Method method, Config config) {
+        if (requestRoute.getRateLimitPeriod() != null) {
+            return List.of(new RateLimitFilter(requestRoute.getRateLimit(), requestRoute.getRateLimitPeriod(), requestRoute.getRateLimitKey(), config.getString(Key.APPLICATION_API_KEY), config.getRateLimitCapacity()));
+        }
+
+        var rateLimit = method.getAnnotation(RateLimit.class);
+        if (rateLimit != null) {
+            return List.of(getRateLimitFilter(rateLimit, config));
+        }
+
+        // A class level limit is shared by all routes of the controller
+        var classRateLimit = method.getDeclaringClass().getAnnotation(RateLimit.class);
+        if (classRateLimit != null) {
+            return List.of(CLASS_RATE_LIMITS.computeIfAbsent(method.getDeclaringClass(), clazz -> getRateLimitFilter(classRateLimit, config)));
+        }
+
+        return List.of();
+    }
+
+    private static RateLimitFilter getRateLimitFilter(RateLimit rateLimit, Config config) {
+        return new RateLimitFilter(rateLimit.limit(), Duration.ofSeconds(rateLimit.period()), rateLimit.key(), config.getString(Key.APPLICATION_API_KEY), config.getRateLimitCapacity());
+    }
+
+    /**
+     * Links the given handlers to an immutable chain, in which every link
+     * holds its successor in a final field
+     *
+     * @param handlers The handlers in order of execution
+     * @param last The handler to continue with after the given handlers
+     * @return The first handler of the chain
+     */
+    private static HttpHandler link(List<ChainHandler> handlers, HttpHandler last) {
+        HttpHandler handler = last;
+        for (int i = handlers.size() - 1; i >= 0; i--) {
+            handler = handlers.get(i).withNext(handler);
+        }
+
+        return handler;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package io.mangoo.routing.handlers;
+
+import com.google.common.hash.Hashing;
+import io.mangoo.routing.Response;
+import io.mangoo.utils.RequestUtils;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.StatusCodes;
+
+import java.nio.ByteBuffer;
+
+public class ETagHandler extends ChainHandler {
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange, HttpHandler next) throws Exception {
+        var attachment = exchange.getAttachment(RequestUtils.getAttachmentKey());
+        var response = attachment.getResponse();
+
+        if (isConditional(response)) {
+            if (response.getETag() == null) {
+                response.etag(getETag(response.getBodyBuffer()));
+            }
+
+            if (RequestUtils.isNotModified(exchange, response.getETag(), response.getLastModified())) {
+                var notModified = Response.notModified().headers(response.getHeaders());
+                response.getCookies().forEach(notModified::cookie);
+                attachment.setResponse(notModified);
+            }
+        }
+
+        next.handleRequest(exchange);
+    }
+
+    /**
+     * Computes a fast non-cryptographic ETag of the given body
+     *
+     * @param body The UTF-8 encoded body of the response
+     * @return The ETag of the body
+     */
+    protected String getETag(ByteBuffer body) {
+        return Hashing.farmHashFingerprint64().hashBytes(body).toString();
+    }
+
+    private static boolean isConditional(Response response) {
+        return response.getStatusCode() == StatusCodes.OK
+                && response.hasBody()
+                && !response.isRedirect()
+                && !response.isBinary()
+                && !response.isFile()
+                && !response.isStreamed();
+    }
+}
@@ -11,7 +11,6 @@ import io.mangoo.utils.RequestUtils;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.util.StatusCodes;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -45,11 +44,7 @@ public class ExceptionHandler implements HttpHandler {
             LOG.warn("Client error: {}", root.getMessage());
         }
 
-        Server.headers().forEach((key, value) -> {
-            if (StringUtils.isNotBlank(value)) {
-                exchange.getResponseHeaders().add(key, value);
-            }
-        });
+        Server.addHeaders(exchange.getResponseHeaders());
 
         exchange.setStatusCode(status);
 
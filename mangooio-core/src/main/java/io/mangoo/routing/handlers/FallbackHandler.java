@@ -6,16 +6,11 @@ import io.mangoo.core.Server;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.util.StatusCodes;
-import org.apache.commons.lang3.StringUtils;
 
 public class FallbackHandler implements HttpHandler {
     @Override
     public void handleRequest(HttpServerExchange exchange) throws Exception {
-        Server.headers()
-            .entrySet()
-            .stream()
-            .filter(entry -> StringUtils.isNotBlank(entry.getValue()))
-            .forEach(entry -> exchange.getResponseHeaders().add(entry.getKey(), entry.getValue()));
+        Server.addHeaders(exchange.getResponseHeaders());
         
         exchange.getResponseHeaders().put(Header.CONTENT_TYPE, "text/html; charset=UTF-8");
         exchange.setStatusCode(StatusCodes.NOT_FOUND);
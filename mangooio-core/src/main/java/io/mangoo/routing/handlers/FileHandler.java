@@ -0,0 +1,84 @@
+package io.mangoo.routing.handlers;
+
+import io.mangoo.constants.Header;
+import io.mangoo.constants.Required;
+import io.mangoo.core.Server;
+import io.mangoo.routing.Response;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.ByteRange;
+import io.undertow.util.DateUtils;
+import io.undertow.util.Headers;
+import io.undertow.util.Methods;
+import io.undertow.util.StatusCodes;
+import org.xnio.channels.Channels;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+import java.util.Objects;
+
+public class FileHandler implements HttpHandler {
+    private static final String BYTES = "bytes";
+    private final Response response;
+
+    public FileHandler(Response response) {
+        this.response = Objects.requireNonNull(response, Required.RESPONSE);
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        Path path = response.getFileBody();
+        if (!Files.isRegularFile(path) || !Files.isReadable(path)) {
+            exchange.setStatusCode(StatusCodes.NOT_FOUND);
+            exchange.endExchange();
+            return;
+        }
+
+        long length = Files.size(path);
+        var lastModified = new Date(Files.getLastModifiedTime(path).toMillis());
+        long start = 0;
+        long count = length;
+
+        exchange.setStatusCode(response.getStatusCode());
+        Server.addHeaders(exchange.getResponseHeaders());
+
+        exchange.getResponseHeaders().put(Header.CONTENT_TYPE, response.getContentType());
+        exchange.getResponseHeaders().put(Headers.ACCEPT_RANGES, BYTES);
+        exchange.getResponseHeaders().put(Headers.LAST_MODIFIED, DateUtils.toDateString(lastModified));
+        response.getHeaders().forEach((key, value) -> exchange.getResponseHeaders().put(key, value));
+
+        var range = response.getStatusCode() == StatusCodes.OK ? ByteRange.parse(exchange.getRequestHeaders().getFirst(Headers.RANGE)) : null;
+        if (range != null) {
+            var result = range.getResponseResult(length, exchange.getRequestHeaders().getFirst(Headers.IF_RANGE), lastModified, null);
+            if (result != null) {
+                exchange.setStatusCode(result.getStatusCode());
+                exchange.getResponseHeaders().put(Headers.CONTENT_RANGE, result.getContentRange());
+
+                if (result.getStatusCode() == StatusCodes.REQUEST_RANGE_NOT_SATISFIABLE) {
+                    exchange.getResponseHeaders().put(Headers.CONTENT_LENGTH, 0);
+                    exchange.endExchange();
+                    return;
+                }
+
+                start = result.getStart();
+                count = result.getContentLength();
+            }
+        }
+
+        exchange.getResponseHeaders().put(Headers.CONTENT_LENGTH, count);
+        if (Methods.HEAD.equals(exchange.getRequestMethod())) {
+            exchange.endExchange();
+            return;
+        }
+
+        try (var fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var channel = exchange.getResponseChannel();
+            Channels.transferBlocking(channel, fileChannel, start, count);
+            Channels.shutdownWritesBlocking(channel);
+        }
+        exchange.endExchange();
+    }
+}
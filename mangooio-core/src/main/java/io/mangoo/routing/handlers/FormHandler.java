@@ -1,116 +1,193 @@
 package io.mangoo.routing.handlers;
 
 import io.mangoo.constants.Default;
+import io.mangoo.constants.Required;
 import io.mangoo.core.Application;
+import io.mangoo.core.Config;
 import io.mangoo.routing.Attachment;
 import io.mangoo.routing.bindings.Form;
+import io.mangoo.routing.bindings.FormFile;
 import io.mangoo.utils.RequestUtils;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.form.FormData;
 import io.undertow.server.handlers.form.FormData.FormValue;
 import io.undertow.server.handlers.form.FormDataParser;
+import io.undertow.server.handlers.form.FormEncodedDataDefinition;
 import io.undertow.server.handlers.form.FormParserFactory;
+import io.undertow.server.handlers.form.MultiPartParserDefinition;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Deque;
+import java.util.Objects;
 
-public class FormHandler implements HttpHandler {
+public class FormHandler extends ChainHandler {
+    private static final long MAX_FORM_SIZE = Default.FORM_MAX_FILES * Default.FORM_MAX_FILE_SIZE
+            + (long) Default.FORM_MAX_PARAMETERS * Default.FORM_MAX_VALUE_LENGTH;
 
     @Override
-    public void handleRequest(HttpServerExchange exchange) throws Exception {
+    public void handleRequest(HttpServerExchange exchange, HttpHandler next) throws Exception {
         final Attachment attachment = exchange.getAttachment(RequestUtils.getAttachmentKey());
         if (attachment.getForm() == null) {
-            attachment.setForm(getForm(exchange));   
+            final var form = getForm(exchange);
+            if (form.isSubmitted()) {
+                exchange.addExchangeCompleteListener((completed, nextListener) -> {
+                    form.cleanup();
+                    nextListener.proceed();
+                });
+            }
+            attachment.setForm(form);
         }
 
         exchange.putAttachment(RequestUtils.getAttachmentKey(), attachment);
-        nextHandler(exchange);
+        next.handleRequest(exchange);
     }
 
     /**
-     * Retrieves the form parameter from a request
+     * Parses the form of a POST, PUT or PATCH request asynchronously as data arrives,
+     * without blocking the calling I/O thread. The size of the whole submission and of
+     * each uploaded file as well as the number of parameters are limited while reading,
+     * thus oversized submissions are rejected before they are fully buffered.
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param next The handler to call once the form has been parsed, usually on the I/O thread
+     * @return True if the form is parsed and next will be called, false if the request has no form
+     *
+     * @throws Exception If form parsing fails
+     */
+    public static boolean parse(HttpServerExchange exchange, HttpHandler next) throws Exception {
+        Objects.requireNonNull(exchange, Required.HTTP_SERVER_EXCHANGE);
+        Objects.requireNonNull(next, Required.NEXT_HANDLER);
+
+        if (!RequestUtils.isPostPutPatch(exchange)) {
+            return false;
+        }
+
+        var parser = ParserFactory.INSTANCE.createParser(exchange);
+        if (parser == null) {
+            return false;
+        }
+
+        if (exchange.getMaxEntitySize() <= 0 || exchange.getMaxEntitySize() > MAX_FORM_SIZE) {
+            exchange.setMaxEntitySize(MAX_FORM_SIZE);
+        }
+
+        parser.parse(next);
+        return true;
+    }
+
+    /**
+     * Retrieves the form parameter from a request. If the form has already been parsed
+     * asynchronously, the parsed form data is used, otherwise the form is parsed blocking.
      *
      * @param exchange The Undertow HttpServerExchange
      *
      * @throws IOException If form parsing fails
      */
     protected Form getForm(HttpServerExchange exchange) throws IOException {
-        final Form form = Application.getInstance(Form.class);
+        final var form = new Form();
         if (!RequestUtils.isPostPutPatch(exchange)) {
             return form;
         }
 
+        var formData = exchange.getAttachment(FormDataParser.FORM_DATA);
+        if (formData != null) {
+            return toForm(formData, form);
+        }
+
+        var parser = ParserFactory.INSTANCE.createParser(exchange);
+        if (parser == null) {
+            return form;
+        }
+
         exchange.startBlocking();
 
-        var formParserBuilder = FormParserFactory.builder();
-        formParserBuilder.setDefaultCharset(StandardCharsets.UTF_8.name());
+        return toForm(parser.parseBlocking(), form);
+    }
 
-        try (FormDataParser parser = formParserBuilder.build().createParser(exchange)) {
-            if (parser == null) {
-                return form;
+    /**
+     * Validates the parsed form data against the form limits and adds it to the given form
+     *
+     * @param formData The parsed form data
+     * @param form The form to add the data to
+     * @return The submitted form
+     *
+     * @throws IOException If the form data exceeds a limit
+     */
+    private static Form toForm(FormData formData, Form form) throws IOException {
+        var parameterCount = 0;
+        var fileCount = 0;
+        for (String name : formData) {
+            if (name == null || name.isBlank() || name.length() > 200) {
+                throw new IOException("Invalid parameter name");
             }
 
-            var formData = parser.parseBlocking();
-            var parameterCount = 0;
-            var fileCount = 0;
-            for (String name : formData) {
-                if (name == null || name.isBlank() || name.length() > 200) {
-                    throw new IOException("Invalid parameter name");
-                }
+            Deque<FormValue> values = formData.get(name);
+            if (values == null || values.isEmpty()) {
+                continue;
+            }
 
-                Deque<FormValue> values = formData.get(name);
-                if (values == null || values.isEmpty()) {
-                    continue;
+            for (FormValue value : values) {
+                parameterCount++;
+                if (parameterCount > Default.FORM_MAX_PARAMETERS) {
+                    throw new IOException("Too many parameters");
                 }
 
-                for (FormValue value : values) {
-                    parameterCount++;
-                    if (parameterCount > Default.FORM_MAX_PARAMETERS) {
-                        throw new IOException("Too many parameters");
+                if (value.isFileItem()) {
+                    fileCount++;
+                    if (fileCount > Default.FORM_MAX_FILES) {
+                        throw new IOException("Too many file uploads");
                     }
 
-                    if (value.isFileItem()) {
-                        fileCount++;
-                        if (fileCount > Default.FORM_MAX_FILES) {
-                            throw new IOException("Too many file uploads");
-                        }
-
-                        var fileItem = value.getFileItem();
-                        var size = fileItem.getFileSize();
-                        if (size > Default.FORM_MAX_FILE_SIZE) {
-                            throw new IOException("Uploaded file too large");
-                        }
+                    var fileItem = value.getFileItem();
+                    var size = fileItem.getFileSize();
+                    if (size > Default.FORM_MAX_FILE_SIZE) {
+                        throw new IOException("Uploaded file too large");
+                    }
 
+                    if (fileItem.isInMemory()) {
                         form.addFile(name, fileItem.getInputStream());
                     } else {
-                        String val = value.getValue();
-                        if (val == null) {
-                            continue;
-                        }
-
-                        if (val.length() > Default.FORM_MAX_VALUE_LENGTH) {
-                            throw new IOException("Parameter value too long");
-                        }
+                        form.addFile(name, FormFile.of(fileItem.getFile()));
+                    }
+                } else {
+                    String val = value.getValue();
+                    if (val == null) {
+                        continue;
+                    }
 
-                        form.addValue(name, val);
+                    if (val.length() > Default.FORM_MAX_VALUE_LENGTH) {
+                        throw new IOException("Parameter value too long");
                     }
+
+                    form.addValue(name, val);
                 }
             }
-
-            form.setSubmitted(true);
         }
 
+        form.setSubmitted(true);
+
         return form;
     }
 
     /**
-     * Handles the next request in the handler chain
-     *
-     * @param exchange The HttpServerExchange
-     * @throws Exception Thrown when an exception occurs
+     * The parser factory shared by all requests. Uploaded files above the file size
+     * threshold are spooled to temporary files, which Undertow deletes once the
+     * request is completed.
      */
-    protected void nextHandler(HttpServerExchange exchange) throws Exception {
-        Application.getInstance(RequestHandler.class).handleRequest(exchange);
+    private static final class ParserFactory {
+        private static final FormParserFactory INSTANCE = create(Application.getInstance(Config.class).getUndertowFileSizeThreshold());
+
+        private static FormParserFactory create(long fileSizeThreshold) {
+            var multiPartParserDefinition = new MultiPartParserDefinition()
+                    .setDefaultEncoding(StandardCharsets.UTF_8.name());
+            multiPartParserDefinition.setMaxIndividualFileSize(Default.FORM_MAX_FILE_SIZE);
+            multiPartParserDefinition.setFileSizeThreshold(fileSizeThreshold);
+
+            return FormParserFactory.builder(false)
+                    .addParsers(new FormEncodedDataDefinition().setDefaultEncoding(StandardCharsets.UTF_8.name()), multiPartParserDefinition)
+                    .build();
+        }
     }
-}
\ No newline at end of file
+}
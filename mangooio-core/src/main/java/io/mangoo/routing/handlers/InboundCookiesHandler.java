@@ -1,22 +1,28 @@
 package io.mangoo.routing.handlers;
 
+import com.nimbusds.jwt.JWTClaimsSet;
 import io.mangoo.constants.ClaimKey;
 import io.mangoo.constants.Const;
 import io.mangoo.constants.Required;
-import io.mangoo.core.Application;
 import io.mangoo.core.Config;
+import io.mangoo.enums.SessionStorage;
 import io.mangoo.exceptions.MangooJwtException;
 import io.mangoo.routing.Attachment;
+import io.mangoo.routing.ClaimsCache;
+import io.mangoo.routing.CookieCodecs;
 import io.mangoo.routing.bindings.Authentication;
 import io.mangoo.routing.bindings.Flash;
-import io.mangoo.routing.bindings.Form;
 import io.mangoo.routing.bindings.Session;
+import io.mangoo.session.SessionStore;
 import io.mangoo.utils.CommonUtils;
+import io.mangoo.utils.JwtCodec;
 import io.mangoo.utils.JwtUtils;
 import io.mangoo.utils.RequestUtils;
+import io.mangoo.utils.SessionCodec;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
 import jakarta.inject.Inject;
+import jakarta.inject.Provider;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -26,30 +32,38 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Objects;
 
-public class InboundCookiesHandler implements HttpHandler {
+public class InboundCookiesHandler extends ChainHandler {
     private static final Logger LOG = LogManager.getLogger(InboundCookiesHandler.class);
+    private final ClaimsCache claimsCache;
+    private final CookieCodecs cookieCodecs;
+    private final Provider<SessionStore> sessionStore;
     private final Config config;
-    private Form form;
+    private final boolean storedSession;
 
     @Inject
-    public InboundCookiesHandler(Config config) {
+    public InboundCookiesHandler(Config config, ClaimsCache claimsCache, CookieCodecs cookieCodecs, Provider<SessionStore> sessionStore) {
         this.config = Objects.requireNonNull(config, Required.CONFIG);
+        this.claimsCache = Objects.requireNonNull(claimsCache, Required.CLAIMS_CACHE);
+        this.cookieCodecs = Objects.requireNonNull(cookieCodecs, Required.COOKIE_CODECS);
+        this.sessionStore = Objects.requireNonNull(sessionStore, Required.SESSION_STORE);
+        this.storedSession = SessionStorage.fromString(config.getSessionStoreMode()) != SessionStorage.COOKIE;
     }
     
     @Override
-    public void handleRequest(HttpServerExchange exchange) throws Exception {
+    public void handleRequest(HttpServerExchange exchange, HttpHandler next) throws Exception {
         Attachment attachment = exchange.getAttachment(RequestUtils.getAttachmentKey());
-        attachment.setSession(getSessionCookie(exchange));
-        attachment.setAuthentication(getAuthenticationCookie(exchange));
-        attachment.setFlash(getFlashCookie(exchange));
-        attachment.setForm(form);
+        attachment.setSession(() -> getSessionCookie(exchange));
+        attachment.setAuthentication(() -> getAuthenticationCookie(exchange));
+        attachment.setFlash(() -> getFlashCookie(exchange, attachment));
 
         exchange.putAttachment(RequestUtils.getAttachmentKey(), attachment);
-        nextHandler(exchange);
+        next.handleRequest(exchange);
     }
 
     /**
-     * Retrieves the current session from the HttpServerExchange
+     * Retrieves the current session from the HttpServerExchange. Session cookies are
+     * read in both the JWT and the compact format, regardless of the configured format.
+     * If sessions are kept in a session store, the cookie only carries the session ID.
      *
      * @param exchange The Undertow HttpServerExchange
      */
@@ -63,16 +77,31 @@ public class InboundCookiesHandler implements HttpHandler {
 
         String cookieValue = getCookieValue(exchange, config.getSessionCookieName());
 
-        if (StringUtils.isNotBlank(cookieValue)) {
+        if (storedSession) {
+            if (StringUtils.length(cookieValue) == Const.SESSION_ID_LENGTH) {
+                var sessionData = sessionStore.get().get(cookieValue);
+                if (sessionData != null && sessionData.csrf() != null) {
+                    session = Session.create()
+                            .withId(cookieValue)
+                            .withContent(new HashMap<>(sessionData.values()))
+                            .withCsrf(sessionData.csrf())
+                            .withExpires(LocalDateTime.ofInstant(sessionData.expires(), config.getApplicationTimeZone()));
+                }
+            }
+        } else if (StringUtils.isNotBlank(cookieValue) && SessionCodec.isCompact(cookieValue)) {
             try {
-                var jwtData = JwtUtils.jwtData()
-                        .withKey(config.getSessionCookieKey())
-                        .withSecret(config.getSessionCookieSecret())
-                        .withIssuer(config.getApplicationName())
-                        .withAudience(config.getSessionCookieName())
-                        .withTtlSeconds(config.getSessionCookieTokenExpires());
+                var data = cookieCodecs.getCompactSession().decode(cookieValue);
 
-                var jwtClaimsSet = JwtUtils.parseJwt(cookieValue, jwtData);
+                session = Session.create()
+                        .withContent(data.values())
+                        .withCsrf(data.csrf())
+                        .withExpires(LocalDateTime.ofInstant(data.expires(), config.getApplicationTimeZone()));
+            } catch (MangooJwtException e) {
+                LOG.warn("Failed to parse session cookie", e);
+            }
+        } else if (StringUtils.isNotBlank(cookieValue)) {
+            try {
+                var jwtClaimsSet = parseJwt(cookieValue, cookieCodecs.getSession());
 
                 LocalDateTime expires = LocalDateTime.ofInstant(
                         jwtClaimsSet.getExpirationTime().toInstant(),
@@ -104,14 +133,7 @@ public class InboundCookiesHandler implements HttpHandler {
         String cookieValue = getCookieValue(exchange, config.getAuthenticationCookieName());
         if (StringUtils.isNotBlank(cookieValue)) {
             try {
-                var jwtData = JwtUtils.jwtData()
-                        .withKey(config.getAuthenticationCookieKey())
-                        .withSecret(config.getAuthenticationCookieSecret())
-                        .withIssuer(config.getApplicationName())
-                        .withAudience(config.getAuthenticationCookieName())
-                        .withTtlSeconds(config.getAuthenticationCookieRememberExpires());
-
-                var jwtClaimsSet = JwtUtils.parseJwt(cookieValue, jwtData);
+                var jwtClaimsSet = parseJwt(cookieValue, cookieCodecs.getAuthentication());
 
                 if (!(config.isAuthenticationBlacklist()
                         && CommonUtils.isBlacklisted(jwtClaimsSet.getJWTID()))) {
@@ -135,28 +157,23 @@ public class InboundCookiesHandler implements HttpHandler {
     }
 
     /**
-     * Retrieves the flash cookie from the current
+     * Retrieves the flash cookie from the current request and restores
+     * a kept form to the given attachment
      *
      * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
      */
-    protected Flash getFlashCookie(HttpServerExchange exchange) {
+    protected Flash getFlashCookie(HttpServerExchange exchange, Attachment attachment) {
         var flash = Flash.create();
         
         final String cookieValue = getCookieValue(exchange, config.getFlashCookieName());
         if (StringUtils.isNotBlank(cookieValue)) {
             try {
-                var jwtData = JwtUtils.jwtData()
-                        .withKey(config.getFlashCookieKey())
-                        .withSecret(config.getFlashCookieSecret())
-                        .withIssuer(config.getApplicationName())
-                        .withAudience(config.getFlashCookieName())
-                        .withTtlSeconds(60);
-
-                var jwtClaimSet = JwtUtils.parseJwt(cookieValue, jwtData);
+                var jwtClaimSet = cookieCodecs.getFlash().decode(cookieValue);
 
                 var formClaim = jwtClaimSet.getClaimAsString(ClaimKey.FORM);
                 if (StringUtils.isNotBlank(formClaim)) {
-                    form = CommonUtils.deserializeFromBase64(formClaim);
+                    attachment.setForm(CommonUtils.deserializeFromBase64(formClaim));
                 }
 
                 flash = Flash.create()
@@ -170,6 +187,26 @@ public class InboundCookiesHandler implements HttpHandler {
         return flash;
     }
     
+    /**
+     * Parses and validates a cookie value, decrypting and verifying it only
+     * if its claims are not already in the claims cache
+     *
+     * @param cookieValue The raw value of the cookie
+     * @param jwtCodec The codec of the cookie
+     * @return The validated claims of the cookie
+     *
+     * @throws MangooJwtException If the cookie is invalid
+     */
+    private JWTClaimsSet parseJwt(String cookieValue, JwtCodec jwtCodec) throws MangooJwtException {
+        var jwtClaimsSet = claimsCache.get(jwtCodec.getAudience(), cookieValue);
+        if (jwtClaimsSet == null) {
+            jwtClaimsSet = jwtCodec.decode(cookieValue);
+            claimsCache.put(jwtCodec.getAudience(), cookieValue, jwtClaimsSet);
+        }
+
+        return jwtClaimsSet;
+    }
+
     /**
      * Retrieves the value of a cookie with a given name from a HttpServerExchange
      * 
@@ -187,14 +224,4 @@ public class InboundCookiesHandler implements HttpHandler {
 
         return value;
     }
-
-    /**
-     * Handles the next request in the handler chain
-     *
-     * @param exchange The HttpServerExchange
-     * @throws Exception Thrown when an exception occurs
-     */
-    protected void nextHandler(HttpServerExchange exchange) throws Exception {
-        Application.getInstance(AuthenticationHandler.class).handleRequest(exchange);
-    }
 }
\ No newline at end of file
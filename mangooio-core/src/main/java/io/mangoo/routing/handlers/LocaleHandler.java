@@ -3,7 +3,6 @@ package io.mangoo.routing.handlers;
 import io.mangoo.constants.Default;
 import io.mangoo.constants.Header;
 import io.mangoo.constants.Required;
-import io.mangoo.core.Application;
 import io.mangoo.core.Config;
 import io.mangoo.routing.Attachment;
 import io.mangoo.utils.RequestUtils;
@@ -14,10 +13,9 @@ import jakarta.inject.Inject;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Locale;
-import java.util.Map;
 import java.util.Objects;
 
-public class LocaleHandler implements HttpHandler {
+public class LocaleHandler extends ChainHandler {
     private final Config config;
     
     @Inject
@@ -26,12 +24,12 @@ public class LocaleHandler implements HttpHandler {
     }
     
     @Override
-    public void handleRequest(HttpServerExchange exchange) throws Exception {
+    public void handleRequest(HttpServerExchange exchange, HttpHandler next) throws Exception {
         Locale locale = null;
 
+        Attachment attachment = exchange.getAttachment(RequestUtils.getAttachmentKey());
         var i18nCookie = exchange.getRequestCookie(config.getI18nCookieName());
-        Map<String, String> parameter = RequestUtils.getRequestParameters(exchange);
-        String lang = parameter.get("lang");
+        String lang = attachment.getRequestParameter().get("lang");
 
         if (StringUtils.isNotBlank(lang)) {
             locale = LocaleUtils.getLocaleFromString(lang.toLowerCase());
@@ -55,21 +53,10 @@ public class LocaleHandler implements HttpHandler {
             locale = Locale.forLanguageTag(Default.LANGUAGE);
         }
 
-        Attachment attachment = exchange.getAttachment(RequestUtils.getAttachmentKey());
         attachment.getMessages().reload(locale);
         attachment.withLocale(locale);
         
         exchange.putAttachment(RequestUtils.getAttachmentKey(), attachment);
-        nextHandler(exchange);
-    }
-
-    /**
-     * Handles the next request in the handler chain
-     *
-     * @param exchange The HttpServerExchange
-     * @throws Exception Thrown when an exception occurs
-     */
-    protected void nextHandler(HttpServerExchange exchange) throws Exception {
-        Application.getInstance(InboundCookiesHandler.class).handleRequest(exchange);
+        next.handleRequest(exchange);
     }
 }
\ No newline at end of file
@@ -3,59 +3,78 @@ package io.mangoo.routing.handlers;
 import io.mangoo.constants.ClaimKey;
 import io.mangoo.constants.Const;
 import io.mangoo.constants.Required;
-import io.mangoo.core.Application;
 import io.mangoo.core.Config;
+import io.mangoo.enums.SessionStorage;
+import io.mangoo.records.SessionData;
 import io.mangoo.routing.Attachment;
+import io.mangoo.routing.CookieCodecs;
+import io.mangoo.routing.bindings.Session;
+import io.mangoo.session.SessionStore;
 import io.mangoo.utils.CommonUtils;
 import io.mangoo.utils.DateUtils;
-import io.mangoo.utils.JwtUtils;
 import io.mangoo.utils.RequestUtils;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.server.handlers.CookieImpl;
 import jakarta.inject.Inject;
+import jakarta.inject.Provider;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
-public class OutboundCookiesHandler implements HttpHandler {
+public class OutboundCookiesHandler extends ChainHandler {
     private static final Logger LOG = LogManager.getLogger(OutboundCookiesHandler.class);
     private static final String SAME_SITE_MODE = "Strict";
     private static final int SIXTY = 60;
+    private final CookieCodecs cookieCodecs;
+    private final Provider<SessionStore> sessionStore;
     private final Config config;
-    private Attachment attachment;
+    private final boolean storedSession;
 
     @Inject
-    public OutboundCookiesHandler(Config config) {
+    public OutboundCookiesHandler(Config config, CookieCodecs cookieCodecs, Provider<SessionStore> sessionStore) {
         this.config = Objects.requireNonNull(config, Required.CONFIG);
+        this.cookieCodecs = Objects.requireNonNull(cookieCodecs, Required.COOKIE_CODECS);
+        this.sessionStore = Objects.requireNonNull(sessionStore, Required.SESSION_STORE);
+        this.storedSession = SessionStorage.fromString(config.getSessionStoreMode()) != SessionStorage.COOKIE;
     }
     
     @Override
-    public void handleRequest(HttpServerExchange exchange) throws Exception {
-        this.attachment = exchange.getAttachment(RequestUtils.getAttachmentKey());
+    public void handleRequest(HttpServerExchange exchange, HttpHandler next) throws Exception {
+        Attachment attachment = exchange.getAttachment(RequestUtils.getAttachmentKey());
 
-        setSessionCookie(exchange);
-        setFlashCookie(exchange);
-        setAuthenticationCookie(exchange);
+        setSessionCookie(exchange, attachment);
+        setFlashCookie(exchange, attachment);
+        setAuthenticationCookie(exchange, attachment);
 
-        nextHandler(exchange);
+        next.handleRequest(exchange);
     }
 
     /**
      * Sets the session cookie to the current HttpServerExchange
      *
      * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
      */
-    protected void setSessionCookie(HttpServerExchange exchange) {
+    protected void setSessionCookie(HttpServerExchange exchange, Attachment attachment) {
+        if (!attachment.isSessionLoaded()) {
+            return;
+        }
+
         var session = attachment.getSession();
 
         if (session.isInvalid()) {
+            if (storedSession && session.getId() != null) {
+                sessionStore.get().remove(session.getId());
+            }
+
             var cookie = new CookieImpl(config.getSessionCookieName())
                     .setSecure(config.isSessionCookieSecure())
                     .setValue("")
@@ -70,27 +89,27 @@ public class OutboundCookiesHandler implements HttpHandler {
         }
 
         var requestCookie = exchange.getRequestCookie(config.getSessionCookieName());
-        if (session.hasChanged() || (requestCookie == null && session.isKept())) {
+        if (storedSession) {
+            setStoredSessionCookie(exchange, session, requestCookie == null ? null : requestCookie.getValue());
+        } else if (session.hasChanged() || (requestCookie == null && session.isKept())) {
             try {
-                Map<String, String> claims = session.getValues();
-                claims.put(Const.CSRF_TOKEN, session.getCsrf());
-
                 LocalDateTime expires = session.getExpires().withNano(0);
-                LocalDateTime now = LocalDateTime.now().withNano(0);
 
-                long ttlSeconds = Duration.between(now, expires).getSeconds();
-                ttlSeconds = Math.max(0, ttlSeconds);
+                String jwt;
+                if (cookieCodecs.isCompactSession()) {
+                    jwt = cookieCodecs.getCompactSession().encode(session.getValues(), session.getCsrf(),
+                            expires.atZone(config.getApplicationTimeZone()).toInstant());
+                } else {
+                    Map<String, String> claims = session.getValues();
+                    claims.put(Const.CSRF_TOKEN, session.getCsrf());
 
-                var jwtData = JwtUtils.jwtData()
-                        .withKey(config.getSessionCookieKey())
-                        .withSecret(config.getSessionCookieSecret())
-                        .withIssuer(config.getApplicationName())
-                        .withAudience(config.getSessionCookieName())
-                        .withSubject(CommonUtils.uuidV6())
-                        .withTtlSeconds(ttlSeconds)
-                        .withClaims(claims);
+                    LocalDateTime now = LocalDateTime.now().withNano(0);
 
-                var jwt = JwtUtils.createJwt(jwtData);
+                    long ttlSeconds = Duration.between(now, expires).getSeconds();
+                    ttlSeconds = Math.max(0, ttlSeconds);
+
+                    jwt = cookieCodecs.getSession().encode(CommonUtils.uuidV6(), ttlSeconds, claims);
+                }
 
                 var cookie = new CookieImpl(config.getSessionCookieName())
                         .setValue(jwt)
@@ -109,12 +128,51 @@ public class OutboundCookiesHandler implements HttpHandler {
         }
     }
 
+    /**
+     * Writes a changed session to the session store and sets a cookie carrying only the
+     * session ID, if the client does not already have it. Unchanged sessions are neither
+     * written to the store nor sent to the client.
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param session The session of the current request
+     * @param requestValue The value of the session cookie of the request or null if none was sent
+     */
+    private void setStoredSessionCookie(HttpServerExchange exchange, Session session, String requestValue) {
+        if (session.hasChanged() || (requestValue == null && session.isKept())) {
+            try {
+                String id = session.getId() != null ? session.getId() : CommonUtils.randomString(Const.SESSION_ID_LENGTH);
+                Instant expires = session.getExpires().withNano(0).atZone(config.getApplicationTimeZone()).toInstant();
+
+                sessionStore.get().put(id, new SessionData(new HashMap<>(session.getValues()), session.getCsrf(), expires));
+
+                if (!id.equals(requestValue)) {
+                    var cookie = new CookieImpl(config.getSessionCookieName())
+                            .setValue(id)
+                            .setSameSiteMode(config.getSessionCookieSameSiteMode())
+                            .setExpires(Date.from(expires))
+                            .setHttpOnly(true)
+                            .setPath("/")
+                            .setSecure(config.isSessionCookieSecure());
+
+                    exchange.setResponseCookie(cookie);
+                }
+            } catch (Exception e) {
+                LOG.error("Failed to store session", e);
+            }
+        }
+    }
+
     /**
      * Sets the authentication cookie to the current HttpServerExchange
      *
      * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
      */
-    protected void setAuthenticationCookie(HttpServerExchange exchange) {
+    protected void setAuthenticationCookie(HttpServerExchange exchange, Attachment attachment) {
+        if (!attachment.isAuthenticationLoaded()) {
+            return;
+        }
+
         var authentication = attachment.getAuthentication();
         if (authentication.isInvalid() || authentication.isLogout()) {
             String id = authentication.getId();
@@ -145,16 +203,7 @@ public class OutboundCookiesHandler implements HttpHandler {
                             ClaimKey.TWO_FACTOR, String.valueOf(authentication.isTwoFactor()),
                             ClaimKey.REMEMBER_ME, String.valueOf(authentication.isRememberMe()));
 
-                    var jwtData = JwtUtils.jwtData()
-                            .withKey(config.getAuthenticationCookieKey())
-                            .withSecret(config.getAuthenticationCookieSecret())
-                            .withIssuer(config.getApplicationName())
-                            .withAudience(config.getAuthenticationCookieName())
-                            .withSubject(authentication.getSubject())
-                            .withTtlSeconds(Duration.between(LocalDateTime.now(), authentication.getExpires()).getSeconds())
-                            .withClaims(claims);
-
-                    var jwt = JwtUtils.createJwt(jwtData);
+                    var jwt = cookieCodecs.getAuthentication().encode(authentication.getSubject(), Duration.between(LocalDateTime.now(), authentication.getExpires()).getSeconds(), claims);
 
                     var cookie = new CookieImpl(config.getAuthenticationCookieName())
                             .setValue(jwt)
@@ -178,22 +227,22 @@ public class OutboundCookiesHandler implements HttpHandler {
      * Sets the flash cookie to current HttpServerExchange
      *
      * @param exchange The Undertow HttpServerExchange
+     * @param attachment The attachment of the current request
      */
-    protected void setFlashCookie(HttpServerExchange exchange) {
+    protected void setFlashCookie(HttpServerExchange exchange, Attachment attachment) {
+        if (!attachment.isFlashLoaded()) {
+            // Neither the flash nor the form were accessed, thus the flash cookie is discarded without parsing it
+            if (exchange.getRequestCookie(config.getFlashCookieName()) != null) {
+                discardFlashCookie(exchange);
+            }
+            return;
+        }
+
         var flash = attachment.getFlash();
         var form = attachment.getForm();
         
         if (flash.isDiscard() || flash.isInvalid()) {
-            var cookie = new CookieImpl(config.getFlashCookieName())
-                    .setHttpOnly(true)
-                    .setValue("")
-                    .setSecure(config.isFlashCookieSecure())
-                    .setPath("/")
-                    .setSameSiteMode(SAME_SITE_MODE)
-                    .setDiscard(true)
-                    .setMaxAge(0);
-
-            exchange.setResponseCookie(cookie);
+            discardFlashCookie(exchange);
         } else if (flash.hasContent() || form.isKept()) {
             try {
                 Map<String, String> claims = new HashMap<>(flash.getValues());
@@ -201,16 +250,7 @@ public class OutboundCookiesHandler implements HttpHandler {
                     claims.put(ClaimKey.FORM, CommonUtils.serializeToBase64(form));
                 }
 
-                var jwtData = JwtUtils.jwtData()
-                        .withKey(config.getFlashCookieKey())
-                        .withSecret(config.getFlashCookieSecret())
-                        .withIssuer(config.getApplicationName())
-                        .withAudience(config.getFlashCookieName())
-                        .withSubject(CommonUtils.uuidV6())
-                        .withTtlSeconds(SIXTY)
-                        .withClaims(claims);
-
-                var jwt = JwtUtils.createJwt(jwtData);
+                var jwt = cookieCodecs.getFlash().encode(CommonUtils.uuidV6(), SIXTY, claims);
 
                 var cookie = new CookieImpl(config.getFlashCookieName())
                         .setValue(jwt)
@@ -229,17 +269,16 @@ public class OutboundCookiesHandler implements HttpHandler {
         }
     }
 
-    /**
-     * Handles the next request in the handler chain
-     *
-     * @param exchange The HttpServerExchange
-     * @throws Exception Thrown when an exception occurs
-     */
-    protected void nextHandler(HttpServerExchange exchange) throws Exception {
-        if (config.isCorsEnable()) {
-            Application.getInstance(CorsHandler.class).handleRequest(exchange);            
-        } else {
-            Application.getInstance(ResponseHandler.class).handleRequest(exchange);  
-        }
+    private void discardFlashCookie(HttpServerExchange exchange) {
+        var cookie = new CookieImpl(config.getFlashCookieName())
+                .setHttpOnly(true)
+                .setValue("")
+                .setSecure(config.isFlashCookieSecure())
+                .setPath("/")
+                .setSameSiteMode(SAME_SITE_MODE)
+                .setDiscard(true)
+                .setMaxAge(0);
+
+        exchange.setResponseCookie(cookie);
     }
-}
\ No newline at end of file
+}
@@ -9,9 +9,6 @@ import io.mangoo.utils.internal.Trace;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.util.StatusCodes;
-import org.apache.commons.lang3.StringUtils;
-
-import java.nio.charset.StandardCharsets;
 
 public class ResponseHandler implements HttpHandler {
     
@@ -24,11 +21,16 @@ public class ResponseHandler implements HttpHandler {
             handleRedirectResponse(exchange, response);
         } else if (response.isBinary()) {
             handleBinaryResponse(exchange, response);
+        } else if (response.isFile()) {
+            handleFileResponse(exchange, response);
+        } else if (response.isStreamed()) {
+            handleStreamedResponse(exchange, response);
         } else {
             handleRenderedResponse(exchange, response);
         }
         
-        var form = attachment.getForm();
+        // A form which was never accessed has not been restored from the flash and needs no discarding
+        var form = attachment.isFlashLoaded() ? attachment.getForm() : null;
         if (form != null) {
             form.discard();
         }
@@ -47,6 +49,28 @@ public class ResponseHandler implements HttpHandler {
         exchange.dispatch(exchange.getDispatchExecutor(), Application.getInstance(BinaryHandler.class).withResponse(response));
     }
 
+    /**
+     * Handles a file response to the client by dispatching the file transfer to a worker
+     * thread, which transfers the file from the file channel to the response channel
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param response The response object
+     */
+    protected void handleFileResponse(HttpServerExchange exchange, Response response) {
+        exchange.dispatch(exchange.getDispatchExecutor(), new FileHandler(response));
+    }
+
+    /**
+     * Handles a streamed response to the client by dispatching the stream writer of the response
+     * to a worker thread, which writes the body in chunks to the undertow output stream
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param response The response object
+     */
+    protected void handleStreamedResponse(HttpServerExchange exchange, Response response) {
+        exchange.dispatch(exchange.getDispatchExecutor(), new StreamHandler(response));
+    }
+
     /**
      * Handles a redirect response to the client by sending a 403 status code to the client
      *
@@ -56,11 +80,7 @@ public class ResponseHandler implements HttpHandler {
     protected void handleRedirectResponse(HttpServerExchange exchange, Response response) {
         exchange.setStatusCode(StatusCodes.FOUND);
         
-        Server.headers()
-            .entrySet()
-            .stream()
-            .filter(entry -> StringUtils.isNotBlank(entry.getValue()))
-            .forEach(entry -> exchange.getResponseHeaders().add(entry.getKey(), entry.getValue()));
+        Server.addHeaders(exchange.getResponseHeaders());
 
         exchange.getResponseHeaders().put(Header.LOCATION, response.getRedirectTo());
         response.getHeaders().forEach((key, value) -> exchange.getResponseHeaders().put(key, value));
@@ -76,14 +96,16 @@ public class ResponseHandler implements HttpHandler {
     protected void handleRenderedResponse(HttpServerExchange exchange, Response response) {
         exchange.setStatusCode(response.getStatusCode());
         
-        Server.headers()
-            .entrySet()
-            .stream()
-            .filter(entry -> StringUtils.isNotBlank(entry.getValue()))
-            .forEach(entry -> exchange.getResponseHeaders().add(entry.getKey(), entry.getValue()));
+        Server.addHeaders(exchange.getResponseHeaders());
         
-        exchange.getResponseHeaders().put(Header.CONTENT_TYPE, response.getContentType() + "; charset=" + StandardCharsets.UTF_8.name());
+        exchange.getResponseHeaders().put(Header.CONTENT_TYPE, response.getContentTypeHeader());
         response.getHeaders().forEach((key, value) -> exchange.getResponseHeaders().put(key, value));
-        exchange.getResponseSender().send(response.getBody());
+
+        var body = response.getBodyBuffer();
+        if (body != null) {
+            exchange.getResponseSender().send(body);
+        } else {
+            exchange.endExchange();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package io.mangoo.routing.handlers;
+
+import io.mangoo.constants.Header;
+import io.mangoo.constants.Required;
+import io.mangoo.core.Server;
+import io.mangoo.routing.Response;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+
+import java.io.OutputStream;
+import java.util.Objects;
+
+public class StreamHandler implements HttpHandler {
+    private final Response response;
+
+    public StreamHandler(Response response) {
+        this.response = Objects.requireNonNull(response, Required.RESPONSE);
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        exchange.startBlocking();
+        exchange.setStatusCode(response.getStatusCode());
+
+        Server.addHeaders(exchange.getResponseHeaders());
+
+        exchange.getResponseHeaders().put(Header.CONTENT_TYPE, response.getContentTypeHeader());
+        response.getHeaders().forEach((key, value) -> exchange.getResponseHeaders().put(key, value));
+
+        try (OutputStream outputStream = exchange.getOutputStream()) {
+            response.getStreamWriter().write(outputStream);
+        }
+    }
+}
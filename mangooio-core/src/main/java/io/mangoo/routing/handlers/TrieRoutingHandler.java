@@ -0,0 +1,318 @@
+package io.mangoo.routing.handlers;
+
+import io.mangoo.constants.Required;
+import io.mangoo.enums.Http;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HttpString;
+import io.undertow.util.Methods;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Dispatches requests to handlers by their path, compiling all routes at startup. Exact paths
+ * are looked up first, followed by prefix paths, followed by a trie of route templates, where
+ * each node is a path segment. Static segments are interned and looked up by their hash without
+ * creating substrings, path parameters are captured as offsets into the request path and only
+ * materialized once a route matched. Static segments take precedence over path parameters.
+ */
+public class TrieRoutingHandler implements HttpHandler {
+    private static final int[] NO_CAPTURES = new int[0];
+    private final Map<String, HttpHandler> exactPaths = new HashMap<>();
+    private final List<Prefix> prefixPaths = new ArrayList<>();
+    private final Node root = new Node();
+    private final HttpHandler fallbackHandler;
+    private int maxParameters;
+
+    public TrieRoutingHandler(HttpHandler fallbackHandler) {
+        this.fallbackHandler = Objects.requireNonNull(fallbackHandler, Required.NEXT_HANDLER);
+    }
+
+    /**
+     * Adds a route template, e.g. /users/{id}, for the given method
+     *
+     * @param method The HTTP method of the route
+     * @param template The template of the route, where {name} is a path parameter and a trailing * matches any remaining path
+     * @param handler The handler of the route
+     * @return The TrieRoutingHandler instance
+     */
+    public TrieRoutingHandler add(Http method, String template, HttpHandler handler) {
+        Objects.requireNonNull(method, Required.HTTP_METHOD);
+        Objects.requireNonNull(template, Required.URL);
+        Objects.requireNonNull(handler, Required.NEXT_HANDLER);
+
+        List<String> parameters = new ArrayList<>();
+        var node = root;
+        for (String segment : segments(template)) {
+            if (segment.equals("*")) {
+                if (node.wildcard == null) {
+                    node.wildcard = new Node();
+                }
+                node = node.wildcard;
+                break;
+            } else if (segment.length() > 2 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}') {
+                parameters.add(segment.substring(1, segment.length() - 1));
+                if (node.parameter == null) {
+                    node.parameter = new Node();
+                }
+                node = node.parameter;
+            } else {
+                node = node.addChild(segment.intern());
+            }
+        }
+
+        if (node.leaves.containsKey(method)) {
+            throw new IllegalStateException("Cannot add route " + method + " " + template + ", an equivalent route already exists");
+        }
+
+        node.leaves.put(method, new Leaf(handler, parameters.toArray(String[]::new)));
+        maxParameters = Math.max(maxParameters, parameters.size());
+
+        return this;
+    }
+
+    /**
+     * Adds a handler for requests to exactly the given path, regardless of their method
+     *
+     * @param path The path, e.g. /events
+     * @param handler The handler of the path
+     * @return The TrieRoutingHandler instance
+     */
+    public TrieRoutingHandler addExactPath(String path, HttpHandler handler) {
+        Objects.requireNonNull(path, Required.PATH);
+        Objects.requireNonNull(handler, Required.NEXT_HANDLER);
+
+        exactPaths.put(normalize(path), handler);
+
+        return this;
+    }
+
+    /**
+     * Adds a handler for requests to the given path and all paths below, regardless of their
+     * method. The remaining path is set as relative path of the request, the longest prefix wins.
+     *
+     * @param prefix The prefix, e.g. /assets/
+     * @param handler The handler of the prefix
+     * @return The TrieRoutingHandler instance
+     */
+    public TrieRoutingHandler addPrefixPath(String prefix, HttpHandler handler) {
+        Objects.requireNonNull(prefix, Required.PATH);
+        Objects.requireNonNull(handler, Required.NEXT_HANDLER);
+
+        String path = prefix.equals("/") ? "" : normalize(prefix);
+        prefixPaths.removeIf(entry -> entry.path().equals(path));
+        prefixPaths.add(new Prefix(path, handler));
+        prefixPaths.sort(Comparator.comparingInt((Prefix entry) -> entry.path().length()).reversed());
+
+        return this;
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        String path = exchange.getRelativePath();
+
+        if (!exactPaths.isEmpty()) {
+            var handler = exactPaths.get(normalize(path));
+            if (handler != null) {
+                resolve(exchange, path, "");
+                handler.handleRequest(exchange);
+                return;
+            }
+        }
+
+        for (Prefix prefix : prefixPaths) {
+            int length = prefix.path().length();
+            if (path.startsWith(prefix.path()) && (path.length() == length || path.charAt(length) == '/')) {
+                resolve(exchange, prefix.path(), path.substring(length));
+                prefix.handler().handleRequest(exchange);
+                return;
+            }
+        }
+
+        var method = toHttp(exchange.getRequestMethod());
+        if (method != null) {
+            int start = path.startsWith("/") ? 1 : 0;
+            int end = path.length() > 1 && path.endsWith("/") ? path.length() - 1 : path.length();
+            int[] captures = maxParameters == 0 ? NO_CAPTURES : new int[maxParameters * 2];
+
+            var leaf = match(root, path, start, end, 0, method, captures);
+            if (leaf != null) {
+                String[] parameters = leaf.parameters();
+                for (var i = 0; i < parameters.length; i++) {
+                    exchange.addQueryParam(parameters[i], path.substring(captures[i * 2], captures[i * 2 + 1]));
+                }
+
+                leaf.handler().handleRequest(exchange);
+                return;
+            }
+        }
+
+        fallbackHandler.handleRequest(exchange);
+    }
+
+    /**
+     * Finds the route of the given method for the remaining path, trying static segments
+     * before path parameters and path parameters before wildcards
+     */
+    private static Leaf match(Node node, String path, int start, int end, int depth, Http method, int[] captures) {
+        if (start >= end) {
+            var leaf = node.leaves.get(method);
+            if (leaf == null && node.wildcard != null) {
+                leaf = node.wildcard.leaves.get(method);
+            }
+
+            return leaf;
+        }
+
+        int slash = path.indexOf('/', start);
+        if (slash == -1 || slash > end) {
+            slash = end;
+        }
+
+        var child = node.child(path, start, slash);
+        if (child != null) {
+            var leaf = match(child, path, slash + 1, end, depth, method, captures);
+            if (leaf != null) {
+                return leaf;
+            }
+        }
+
+        if (node.parameter != null && slash > start) {
+            var leaf = match(node.parameter, path, slash + 1, end, depth + 1, method, captures);
+            if (leaf != null) {
+                captures[depth * 2] = start;
+                captures[depth * 2 + 1] = slash;
+                return leaf;
+            }
+        }
+
+        return node.wildcard != null ? node.wildcard.leaves.get(method) : null;
+    }
+
+    private static void resolve(HttpServerExchange exchange, String matched, String remaining) {
+        exchange.setRelativePath(remaining);
+        exchange.setResolvedPath(exchange.getResolvedPath().isEmpty() ? matched : exchange.getResolvedPath() + matched);
+    }
+
+    private static Http toHttp(HttpString method) {
+        if (Methods.GET.equals(method)) {
+            return Http.GET;
+        } else if (Methods.POST.equals(method)) {
+            return Http.POST;
+        } else if (Methods.PUT.equals(method)) {
+            return Http.PUT;
+        } else if (Methods.DELETE.equals(method)) {
+            return Http.DELETE;
+        } else if (Methods.PATCH.equals(method)) {
+            return Http.PATCH;
+        } else if (Methods.HEAD.equals(method)) {
+            return Http.HEAD;
+        } else if (Methods.OPTIONS.equals(method)) {
+            return Http.OPTIONS;
+        }
+
+        return null;
+    }
+
+    private static String normalize(String path) {
+        String normalized = path.startsWith("/") ? path : "/" + path;
+        return normalized.length() > 1 && normalized.endsWith("/") ? normalized.substring(0, normalized.length() - 1) : normalized;
+    }
+
+    private static String[] segments(String template) {
+        String path = normalize(template);
+        return path.length() == 1 ? new String[0] : path.substring(1).split("/");
+    }
+
+    /**
+     * Computes the same hash as String.hashCode() for a region of the given string
+     */
+    private static int hash(String path, int start, int end) {
+        var hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + path.charAt(i);
+        }
+
+        return hash;
+    }
+
+    private record Leaf(HttpHandler handler, String[] parameters) {}
+
+    private record Prefix(String path, HttpHandler handler) {}
+
+    private static final class Node {
+        private final Map<Http, Leaf> leaves = new EnumMap<>(Http.class);
+        private String[] keys = new String[0];
+        private int[] hashes = new int[0];
+        private Node[] children = new Node[0];
+        private Node parameter;
+        private Node wildcard;
+
+        /**
+         * Looks up the static child of the given segment by binary search over the hashes of all children
+         */
+        private Node child(String path, int start, int end) {
+            if (keys.length == 0) {
+                return null;
+            }
+
+            int hash = hash(path, start, end);
+            int index = Arrays.binarySearch(hashes, hash);
+            if (index < 0) {
+                return null;
+            }
+
+            while (index > 0 && hashes[index - 1] == hash) {
+                index--;
+            }
+
+            int length = end - start;
+            for (int i = index; i < hashes.length && hashes[i] == hash; i++) {
+                if (keys[i].length() == length && path.regionMatches(start, keys[i], 0, length)) {
+                    return children[i];
+                }
+            }
+
+            return null;
+        }
+
+        private Node addChild(String key) {
+            var child = child(key, 0, key.length());
+            if (child != null) {
+                return child;
+            }
+
+            int hash = key.hashCode();
+            var index = 0;
+            while (index < hashes.length && hashes[index] <= hash) {
+                index++;
+            }
+
+            keys = insert(keys, index, key, new String[keys.length + 1]);
+            children = insert(children, index, new Node(), new Node[children.length + 1]);
+
+            int[] updated = new int[hashes.length + 1];
+            System.arraycopy(hashes, 0, updated, 0, index);
+            updated[index] = hash;
+            System.arraycopy(hashes, index, updated, index + 1, hashes.length - index);
+            hashes = updated;
+
+            return children[index];
+        }
+
+        private static <T> T[] insert(T[] array, int index, T value, T[] updated) {
+            System.arraycopy(array, 0, updated, 0, index);
+            updated[index] = value;
+            System.arraycopy(array, index, updated, index + 1, array.length - index);
+
+            return updated;
+        }
+    }
+}
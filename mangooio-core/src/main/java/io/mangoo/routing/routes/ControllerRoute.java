@@ -1,7 +1,9 @@
 package io.mangoo.routing.routes;
 
 import io.mangoo.constants.Required;
+import io.mangoo.enums.Dispatch;
 import io.mangoo.enums.Http;
+import io.mangoo.enums.Priority;
 import io.mangoo.interfaces.MangooRoute;
 import io.mangoo.routing.Router;
 
@@ -9,8 +11,12 @@ import java.util.Objects;
 
 public class ControllerRoute {
     private final Class<?> controllerClass;
+    private Dispatch dispatch;
+    private Priority priority;
     private boolean authentication;
     private boolean blocking;
+    private boolean cookies = true;
+    private boolean etag;
     
     /**
      * Creates a new set of routes bind to a given controller class
@@ -42,6 +48,22 @@ public class ControllerRoute {
             if (hasBlocking()) {
                 requestRoute.withNonBlocking();
             }
+
+            if (!hasCookies()) {
+                requestRoute.withoutCookies();
+            }
+
+            if (hasETag()) {
+                requestRoute.withETag();
+            }
+
+            if (dispatch != null && requestRoute.getDispatch() == null) {
+                requestRoute.withDispatch(dispatch);
+            }
+
+            if (priority != null && !requestRoute.hasPriority()) {
+                requestRoute.withPriority(priority);
+            }
             
             if (requestRoute.hasMultipleMethods()) {
                 for (Http method : requestRoute.getMethods()) {
@@ -76,6 +98,50 @@ public class ControllerRoute {
         return this;
     }
 
+    /**
+     * Sets how all provided routes are dispatched when they leave the I/O thread,
+     * overwriting the global undertow.dispatch configuration
+     *
+     * @param dispatch The dispatch mode, e.g. Dispatch.VIRTUAL to run on a virtual thread
+     * @return ControllerRoute instance
+     */
+    public ControllerRoute withDispatch(Dispatch dispatch) {
+        this.dispatch = Objects.requireNonNull(dispatch, Required.DISPATCH);
+        return this;
+    }
+
+    /**
+     * Configures all provided routes to not read or write session,
+     * flash and authentication cookies
+     *
+     * @return ControllerRoute instance
+     */
+    public ControllerRoute withoutCookies() {
+        cookies = false;
+        return this;
+    }
+
+    /**
+     * Enables conditional responses with ETags for all provided routes
+     *
+     * @return ControllerRoute instance
+     */
+    public ControllerRoute withETag() {
+        etag = true;
+        return this;
+    }
+
+    /**
+     * Sets the priority class of all provided routes when admission control is enabled
+     *
+     * @param priority The priority class, e.g. Priority.CRITICAL for health checks
+     * @return ControllerRoute instance
+     */
+    public ControllerRoute withPriority(Priority priority) {
+        this.priority = Objects.requireNonNull(priority, Required.PRIORITY_CLASS);
+        return this;
+    }
+
     public boolean hasAuthentication() {
         return authentication;
     }
@@ -84,6 +150,14 @@ public class ControllerRoute {
         return blocking;
     }
 
+    public boolean hasCookies() {
+        return cookies;
+    }
+
+    public boolean hasETag() {
+        return etag;
+    }
+
     public Class<?> getControllerClass() {
         return controllerClass;
     }
@@ -1,20 +1,38 @@
 package io.mangoo.routing.routes;
 
 import io.mangoo.constants.Required;
+import io.mangoo.enums.Dispatch;
 import io.mangoo.enums.Http;
+import io.mangoo.enums.Priority;
+import io.mangoo.enums.RateLimitKey;
 import io.mangoo.interfaces.MangooRoute;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 public class RequestRoute implements MangooRoute {
+    private static final Duration COALESCING_TIMEOUT = Duration.ofSeconds(5);
     private Class<?> controllerClass;
     private Http[] methods = {};
+    private List<String> handlerChain = List.of();
     private Http method;
+    private Dispatch dispatch;
+    private Priority priority;
+    private Duration cacheTtl;
+    private Duration coalescingTimeout;
+    private Duration rateLimitPeriod;
+    private Duration timeout;
+    private RateLimitKey rateLimitKey;
+    private String[] cacheVaryBy = {};
     private String url;
+    private long rateLimit;
     private String controllerMethod;
     private boolean blocking;
     private boolean authentication;
+    private boolean cookies = true;
+    private boolean etag;
 
     public RequestRoute(Http method) {
         Objects.requireNonNull(method, Required.HTTP_METHOD);
@@ -77,6 +95,16 @@ public class RequestRoute implements MangooRoute {
         this.method = method;
     }
 
+    /**
+     * Sets the names of the handlers of the precompiled handler chain of this route
+     *
+     * @param handlerChain The names of the handlers in order of execution
+     */
+    public void withHandlerChain(List<String> handlerChain) {
+        Objects.requireNonNull(handlerChain, Required.HANDLER_CHAIN);
+        this.handlerChain = List.copyOf(handlerChain);
+    }
+
     /**
      * Sets authentication to true for this route, default is false
      * 
@@ -99,6 +127,137 @@ public class RequestRoute implements MangooRoute {
         return this;
     }
 
+    /**
+     * Sets how this request is dispatched when it leaves the I/O thread,
+     * overwriting the global undertow.dispatch configuration
+     *
+     * @param dispatch The dispatch mode, e.g. Dispatch.VIRTUAL to run on a virtual thread
+     * @return RequestRoute instance
+     */
+    public RequestRoute withDispatch(Dispatch dispatch) {
+        this.dispatch = Objects.requireNonNull(dispatch, Required.DISPATCH);
+        return this;
+    }
+
+    /**
+     * Configures this request to not read or write session, flash
+     * and authentication cookies, which removes the cookie handlers
+     * from the handler chain of this route. Ignored if the route
+     * requires authentication.
+     *
+     * @return RequestRoute instance
+     */
+    public RequestRoute withoutCookies() {
+        this.cookies = false;
+        return this;
+    }
+
+    /**
+     * Enables conditional responses for this request. An ETag is computed
+     * from the response body, unless the controller supplies one, and
+     * matching If-None-Match or If-Modified-Since requests are answered
+     * with 304 Not Modified.
+     *
+     * @return RequestRoute instance
+     */
+    public RequestRoute withETag() {
+        this.etag = true;
+        return this;
+    }
+
+    /**
+     * Caches the responses of this GET request in a dedicated cache, serving
+     * cached responses without invoking the controller. Responses of routes
+     * requiring authentication are cached per authentication subject.
+     *
+     * @param ttl The time after which a cached response expires
+     * @param varyBy The request or query parameters the cached response varies by
+     * @return RequestRoute instance
+     */
+    public RequestRoute withCache(Duration ttl, String... varyBy) {
+        this.cacheTtl = Objects.requireNonNull(ttl, Required.TTL);
+        this.cacheVaryBy = Arrays.copyOf(Objects.requireNonNull(varyBy, Required.VARY_BY), varyBy.length);
+        return this;
+    }
+
+    /**
+     * Coalesces identical concurrent GET requests of this route, letting only one
+     * request invoke the controller while the others wait for and share its response.
+     * Waiting requests execute independently after 5 seconds.
+     *
+     * @return RequestRoute instance
+     */
+    public RequestRoute withCoalescing() {
+        return withCoalescing(COALESCING_TIMEOUT);
+    }
+
+    /**
+     * Coalesces identical concurrent GET requests of this route, letting only one
+     * request invoke the controller while the others wait for and share its response
+     *
+     * @param timeout The maximum time to wait before executing independently
+     * @return RequestRoute instance
+     */
+    public RequestRoute withCoalescing(Duration timeout) {
+        this.coalescingTimeout = Objects.requireNonNull(timeout, Required.TIMEOUT);
+        return this;
+    }
+
+    /**
+     * Sets the priority class of this request when admission control is enabled.
+     * Requests of lower priority are shed first under overload. Defaults to
+     * Priority.HIGH for routes requiring authentication and Priority.NORMAL otherwise.
+     *
+     * @param priority The priority class, e.g. Priority.CRITICAL for health checks
+     * @return RequestRoute instance
+     */
+    public RequestRoute withPriority(Priority priority) {
+        this.priority = Objects.requireNonNull(priority, Required.PRIORITY_CLASS);
+        return this;
+    }
+
+    /**
+     * Aborts requests to this route which take longer than the given timeout, overwriting
+     * the global undertow.timeout configuration. When the timeout passes, the client is
+     * answered with 503 and the thread executing the controller is interrupted. Requests
+     * with a timeout are always dispatched from the I/O thread.
+     *
+     * @param timeout The maximum time to handle a request
+     * @return RequestRoute instance
+     */
+    public RequestRoute withTimeout(Duration timeout) {
+        this.timeout = Objects.requireNonNull(timeout, Required.TIMEOUT);
+        return this;
+    }
+
+    /**
+     * Limits the requests to this route per remote IP, overwriting a RateLimit
+     * annotation of the controller class or method
+     *
+     * @param limit The number of requests allowed per period
+     * @param period The period in which the limit is refilled completely
+     * @return RequestRoute instance
+     */
+    public RequestRoute withRateLimit(long limit, Duration period) {
+        return withRateLimit(limit, period, RateLimitKey.IP);
+    }
+
+    /**
+     * Limits the requests to this route, overwriting a RateLimit annotation
+     * of the controller class or method
+     *
+     * @param limit The number of requests allowed per period
+     * @param period The period in which the limit is refilled completely
+     * @param key What requests are limited by, e.g. RateLimitKey.SUBJECT
+     * @return RequestRoute instance
+     */
+    public RequestRoute withRateLimit(long limit, Duration period, RateLimitKey key) {
+        this.rateLimit = limit;
+        this.rateLimitPeriod = Objects.requireNonNull(period, Required.PERIOD);
+        this.rateLimitKey = Objects.requireNonNull(key, Required.RATE_LIMIT_KEY);
+        return this;
+    }
+
     @Override
     public String getUrl() {
         return url;
@@ -108,6 +267,18 @@ public class RequestRoute implements MangooRoute {
         return authentication;
     }
 
+    public boolean hasCookies() {
+        return cookies || authentication;
+    }
+
+    public boolean hasETag() {
+        return etag;
+    }
+
+    public boolean hasPriority() {
+        return priority != null;
+    }
+
     public boolean hasMultipleMethods() {
         return methods != null && methods.length > 0;
     }
@@ -128,7 +299,51 @@ public class RequestRoute implements MangooRoute {
         return method;
     }
 
+    public Duration getCacheTtl() {
+        return cacheTtl;
+    }
+
+    public String[] getCacheVaryBy() {
+        return Arrays.copyOf(cacheVaryBy, cacheVaryBy.length);
+    }
+
+    public Duration getCoalescingTimeout() {
+        return coalescingTimeout;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public long getRateLimit() {
+        return rateLimit;
+    }
+
+    public Duration getRateLimitPeriod() {
+        return rateLimitPeriod;
+    }
+
+    public RateLimitKey getRateLimitKey() {
+        return rateLimitKey;
+    }
+
+    public Dispatch getDispatch() {
+        return dispatch;
+    }
+
+    public Priority getPriority() {
+        if (priority != null) {
+            return priority;
+        }
+
+        return authentication ? Priority.HIGH : Priority.NORMAL;
+    }
+
     public boolean isBlocking() {
         return blocking;
     }
+
+    public List<String> getHandlerChain() {
+        return handlerChain;
+    }
 }
\ No newline at end of file
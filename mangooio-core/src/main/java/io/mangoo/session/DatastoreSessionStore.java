@@ -0,0 +1,110 @@
+package io.mangoo.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.ReplaceOptions;
+import io.mangoo.constants.Required;
+import io.mangoo.core.Config;
+import io.mangoo.persistence.interfaces.Datastore;
+import io.mangoo.records.SessionData;
+import io.mangoo.utils.Argument;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.bson.Document;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stores sessions in a MongoDB collection, thus sessions are shared between all nodes of a
+ * cluster. Expired sessions are removed by a TTL index. A small near-cache in front of the
+ * collection keeps subsequent requests of a session from reading the collection again; as
+ * a session may be changed by another node, near-cached entries only live for a few seconds.
+ */
+@Singleton
+public class DatastoreSessionStore implements SessionStore {
+    private static final String COLLECTION = "mangooio-sessions";
+    private static final String ID = "_id";
+    private static final String CSRF = "csrf";
+    private static final String EXPIRES = "expires";
+    private static final String KEY = "key";
+    private static final String VALUE = "value";
+    private static final String VALUES = "values";
+    private final MongoCollection<Document> collection;
+    private final Cache<String, SessionData> nearCache;
+
+    @Inject
+    public DatastoreSessionStore(Config config, Datastore datastore) {
+        Objects.requireNonNull(config, Required.CONFIG);
+        Objects.requireNonNull(datastore, Required.DATASTORE);
+
+        this.collection = datastore.getMongoDatabase().getCollection(COLLECTION);
+        this.collection.createIndex(Indexes.ascending(EXPIRES), new IndexOptions().expireAfter(0L, TimeUnit.SECONDS));
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(config.getSessionStoreSize())
+                .expireAfterWrite(Duration.ofSeconds(config.getSessionStoreNearCache()))
+                .build();
+    }
+
+    @Override
+    public SessionData get(String id) {
+        Argument.requireNonBlank(id, Required.ID);
+
+        var sessionData = nearCache.get(id, this::load);
+        if (sessionData != null && sessionData.expires().isAfter(Instant.now())) {
+            return sessionData;
+        }
+
+        return null;
+    }
+
+    @Override
+    public void put(String id, SessionData sessionData) {
+        Argument.requireNonBlank(id, Required.ID);
+        Objects.requireNonNull(sessionData, Required.SESSION_DATA);
+
+        // Values are stored as key/value pairs, as session keys may contain dots
+        List<Document> values = new ArrayList<>(sessionData.values().size());
+        sessionData.values().forEach((key, value) -> values.add(new Document(KEY, key).append(VALUE, value)));
+
+        var document = new Document(ID, id)
+                .append(VALUES, values)
+                .append(CSRF, sessionData.csrf())
+                .append(EXPIRES, Date.from(sessionData.expires()));
+
+        collection.replaceOne(Filters.eq(ID, id), document, new ReplaceOptions().upsert(true));
+        nearCache.put(id, sessionData);
+    }
+
+    @Override
+    public void remove(String id) {
+        Argument.requireNonBlank(id, Required.ID);
+
+        nearCache.invalidate(id);
+        collection.deleteOne(Filters.eq(ID, id));
+    }
+
+    private SessionData load(String id) {
+        var document = collection.find(Filters.eq(ID, id)).first();
+        if (document == null) {
+            return null;
+        }
+
+        List<Document> entries = document.getList(VALUES, Document.class, List.of());
+        Map<String, String> values = HashMap.newHashMap(entries.size());
+        entries.forEach(entry -> values.put(entry.getString(KEY), entry.getString(VALUE)));
+
+        return new SessionData(values, document.getString(CSRF), document.getDate(EXPIRES).toInstant());
+    }
+}
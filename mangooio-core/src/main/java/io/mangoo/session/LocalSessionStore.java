@@ -0,0 +1,73 @@
+package io.mangoo.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.mangoo.cache.CacheImpl;
+import io.mangoo.cache.CacheProvider;
+import io.mangoo.constants.CacheName;
+import io.mangoo.constants.Required;
+import io.mangoo.core.Config;
+import io.mangoo.records.SessionData;
+import io.mangoo.utils.Argument;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Stores sessions in a bounded in-memory cache, where each entry expires with its
+ * session. Sessions are lost on restart and are not shared between nodes, thus this
+ * store is only suitable for a single node.
+ */
+@Singleton
+public class LocalSessionStore implements SessionStore {
+    private final Cache<String, Object> cache;
+
+    @Inject
+    public LocalSessionStore(Config config, CacheProvider cacheProvider) {
+        Objects.requireNonNull(config, Required.CONFIG);
+        Objects.requireNonNull(cacheProvider, Required.CACHE_PROVIDER);
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getSessionStoreSize())
+                .expireAfter(Expiry.writing((String key, Object value) -> getTimeToLive((SessionData) value)))
+                .recordStats()
+                .build();
+
+        cacheProvider.addCache(CacheName.SESSIONS, new CacheImpl(cache));
+    }
+
+    @Override
+    public SessionData get(String id) {
+        Argument.requireNonBlank(id, Required.ID);
+
+        if (cache.getIfPresent(id) instanceof SessionData sessionData && sessionData.expires().isAfter(Instant.now())) {
+            return sessionData;
+        }
+
+        return null;
+    }
+
+    @Override
+    public void put(String id, SessionData sessionData) {
+        Argument.requireNonBlank(id, Required.ID);
+        Objects.requireNonNull(sessionData, Required.SESSION_DATA);
+
+        cache.put(id, sessionData);
+    }
+
+    @Override
+    public void remove(String id) {
+        Argument.requireNonBlank(id, Required.ID);
+
+        cache.invalidate(id);
+    }
+
+    static Duration getTimeToLive(SessionData sessionData) {
+        var ttl = Duration.between(Instant.now(), sessionData.expires());
+        return ttl.isNegative() ? Duration.ZERO : ttl;
+    }
+}
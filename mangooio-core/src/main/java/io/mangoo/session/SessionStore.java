@@ -0,0 +1,28 @@
+package io.mangoo.session;
+
+import io.mangoo.records.SessionData;
+
+public interface SessionStore {
+    /**
+     * Retrieves the data of a session
+     *
+     * @param id The ID of the session
+     * @return The data of the session or null if none is stored or the session has expired
+     */
+    SessionData get(String id);
+
+    /**
+     * Stores the data of a session until the session expires, overwriting existing data
+     *
+     * @param id The ID of the session
+     * @param sessionData The data of the session
+     */
+    void put(String id, SessionData sessionData);
+
+    /**
+     * Removes the data of a session
+     *
+     * @param id The ID of the session
+     */
+    void remove(String id);
+}
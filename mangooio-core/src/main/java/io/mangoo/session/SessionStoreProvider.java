@@ -0,0 +1,30 @@
+package io.mangoo.session;
+
+import io.mangoo.constants.Required;
+import io.mangoo.core.Config;
+import io.mangoo.enums.SessionStorage;
+import jakarta.inject.Inject;
+import jakarta.inject.Provider;
+import jakarta.inject.Singleton;
+
+import java.util.Objects;
+
+@Singleton
+public class SessionStoreProvider implements Provider<SessionStore> {
+    private final Provider<DatastoreSessionStore> datastoreSessionStore;
+    private final Provider<LocalSessionStore> localSessionStore;
+    private final SessionStorage sessionStorage;
+
+    @Inject
+    private SessionStoreProvider(Config config, Provider<LocalSessionStore> localSessionStore, Provider<DatastoreSessionStore> datastoreSessionStore) {
+        Objects.requireNonNull(config, Required.CONFIG);
+        this.localSessionStore = Objects.requireNonNull(localSessionStore, Required.SESSION_STORE);
+        this.datastoreSessionStore = Objects.requireNonNull(datastoreSessionStore, Required.SESSION_STORE);
+        this.sessionStorage = SessionStorage.fromString(config.getSessionStoreMode());
+    }
+
+    @Override
+    public SessionStore get() {
+        return sessionStorage == SessionStorage.DATASTORE ? datastoreSessionStore.get() : localSessionStore.get();
+    }
+}
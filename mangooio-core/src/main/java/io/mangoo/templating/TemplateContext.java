@@ -10,10 +10,12 @@ import io.mangoo.templating.methods.I18nMethod;
 import io.mangoo.templating.methods.LocationMethod;
 import io.mangoo.templating.methods.PrettyTimeMethod;
 import io.mangoo.templating.methods.RouteMethod;
+import io.mangoo.templating.models.LazyModel;
 
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class TemplateContext {
     private String templatePath;
@@ -42,6 +44,28 @@ public class TemplateContext {
         content.put("session", session);
         return this;
     }
+
+    /**
+     * Adds the flash, which is created not before the template accesses it
+     *
+     * @param flashSupplier The supplier of the flash
+     * @return TemplateContext instance
+     */
+    public TemplateContext withFlash(Supplier<Flash> flashSupplier) {
+        content.put("flash", new LazyModel(flashSupplier));
+        return this;
+    }
+
+    /**
+     * Adds the session, which is created not before the template accesses it
+     *
+     * @param sessionSupplier The supplier of the session
+     * @return TemplateContext instance
+     */
+    public TemplateContext withSession(Supplier<Session> sessionSupplier) {
+        content.put("session", new LazyModel(sessionSupplier));
+        return this;
+    }
     
     public TemplateContext withMessages(Messages messages) {
         content.put("i18n", new I18nMethod(messages));
@@ -68,6 +92,16 @@ public class TemplateContext {
         return this;
     }
 
+    public TemplateContext withCsrfToken(Supplier<Session> sessionSupplier) {
+        content.put("csrftoken", new CsrfTokenDirective(sessionSupplier));
+        return this;
+    }
+
+    public TemplateContext withCsrfForm(Supplier<Session> sessionSupplier) {
+        content.put("csrfform", new CsrfFormDirective(sessionSupplier));
+        return this;
+    }
+
 
     public TemplateContext withTemplatePath(String path) {
         templatePath = path;
@@ -6,23 +6,37 @@ import freemarker.template.TemplateDirectiveModel;
 import freemarker.template.TemplateException;
 import freemarker.template.TemplateModel;
 import io.mangoo.constants.Const;
+import io.mangoo.constants.Required;
 import io.mangoo.routing.bindings.Session;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 public class CsrfFormDirective implements TemplateDirectiveModel {
-    private final Session session;
+    private final Supplier<Session> session;
 
     public CsrfFormDirective(Session session) {
-        this.session = session;
+        this.session = () -> session;
+    }
+
+    /**
+     * Creates the directive with a lazy session, which is created not
+     * before the directive is used within a template
+     *
+     * @param session The supplier of the session
+     */
+    public CsrfFormDirective(Supplier<Session> session) {
+        this.session = Objects.requireNonNull(session, Required.SUPPLIER);
     }
 
     @Override
     public void execute(Environment environment, Map params, TemplateModel[] loopVars, TemplateDirectiveBody templateDirectiveBody) throws TemplateException, IOException {
-        if (session != null) {
-            session.keep();
-            environment.getOut().append("<input type=\"hidden\" value=\"" + session.getCsrf() + "\" name=\"" + Const.CSRF_TOKEN + "\" />");
+        var currentSession = session.get();
+        if (currentSession != null) {
+            currentSession.keep();
+            environment.getOut().append("<input type=\"hidden\" value=\"" + currentSession.getCsrf() + "\" name=\"" + Const.CSRF_TOKEN + "\" />");
         }
     }
 }
@@ -0,0 +1,76 @@
+package io.mangoo.templating.models;
+
+import freemarker.core.Environment;
+import freemarker.template.AdapterTemplateModel;
+import freemarker.template.TemplateCollectionModel;
+import freemarker.template.TemplateHashModelEx;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+import io.mangoo.constants.Required;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Wraps an object which is created not before a template accesses it for the first time,
+ * e.g. the session or the flash, which are only parsed from their cookie on first access
+ */
+public class LazyModel implements TemplateHashModelEx, AdapterTemplateModel {
+    private final Supplier<?> supplier;
+    private TemplateHashModelEx model;
+    private Object object;
+
+    public LazyModel(Supplier<?> supplier) {
+        this.supplier = Objects.requireNonNull(supplier, Required.SUPPLIER);
+    }
+
+    @Override
+    public TemplateModel get(String key) throws TemplateModelException {
+        return getModel().get(key);
+    }
+
+    @Override
+    public boolean isEmpty() throws TemplateModelException {
+        return getModel().isEmpty();
+    }
+
+    @Override
+    public int size() throws TemplateModelException {
+        return getModel().size();
+    }
+
+    @Override
+    public TemplateCollectionModel keys() throws TemplateModelException {
+        return getModel().keys();
+    }
+
+    @Override
+    public TemplateCollectionModel values() throws TemplateModelException {
+        return getModel().values();
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Object getAdaptedObject(Class hint) {
+        return getObject();
+    }
+
+    private Object getObject() {
+        if (object == null) {
+            object = supplier.get();
+        }
+
+        return object;
+    }
+
+    private TemplateHashModelEx getModel() throws TemplateModelException {
+        if (model == null) {
+            if (!(Environment.getCurrentEnvironment().getObjectWrapper().wrap(getObject()) instanceof TemplateHashModelEx hashModel)) {
+                throw new TemplateModelException("Lazy object can not be accessed as a hash");
+            }
+            model = hashModel;
+        }
+
+        return model;
+    }
+}
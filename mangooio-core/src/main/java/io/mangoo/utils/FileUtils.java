@@ -12,13 +12,17 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.DecimalFormat;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class FileUtils {
     private static final Logger LOG = LogManager.getLogger(FileUtils.class);
     private static final String [] UNITS = new String[] { "B", "kB", "MB", "GB", "TB" };
     private static final int CONVERSION = 1024;
     private static final Tika TIKA = new Tika();
+    private static final Map<String, String> MIME_TYPES = new ConcurrentHashMap<>();
 
     private FileUtils() {}
 
@@ -36,6 +40,29 @@ public final class FileUtils {
         }
     }
 
+    /**
+     * Detects the mime type of a file by its extension, caching the result per extension.
+     * Files without extension are detected by their content.
+     *
+     * @param path The path of the file
+     * @return The mime type of the file or null if detection fails
+     */
+    public static String getMimeType(Path path) {
+        Objects.requireNonNull(path, Required.PATH);
+
+        String filename = path.getFileName().toString();
+        int index = filename.lastIndexOf('.');
+        if (index > 0 && index < filename.length() - 1) {
+            return MIME_TYPES.computeIfAbsent(filename.substring(index + 1).toLowerCase(Locale.ENGLISH), extension -> TIKA.detect("file." + extension));
+        }
+
+        try {
+            return TIKA.detect(path);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
     /**
      * Closes a closeable without throwing an exception
      *
@@ -19,6 +19,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.util.Strings;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -60,6 +61,25 @@ public final class JsonUtils {
         return json;
     }
     
+    /**
+     * Converts a given object to UTF-8 encoded JSON without creating an intermediate String
+     *
+     * @param object The object to convert
+     * @return JSON bytes or an empty array if conversion fails
+     */
+    public static byte[] toJsonBytes(Object object) {
+        Objects.requireNonNull(object, Required.OBJECT);
+
+        var json = new byte[0];
+        try {
+            json = MAPPER.writeValueAsBytes(object);
+        } catch (JsonProcessingException e) {
+            LOG.error("Failed to convert object to json",  e);
+        }
+
+        return json;
+    }
+
     /**
      * Converts a given object to a JSON string
      * 
@@ -112,7 +132,6 @@ public final class JsonUtils {
      *
      * @return The converted class or an instance of UnprocessableContent if conversion and fallback fails
      */
-    @SuppressWarnings("unchecked")
     public static <T> T toObjectWithFallback(String json, Class<T> clazz) {
         Argument.requireNonBlank(json, Required.JSON);
         Objects.requireNonNull(clazz, Required.CLASS);
@@ -124,6 +143,36 @@ public final class JsonUtils {
             //Intentionally left blank
         }
 
+        return orFallback(object, clazz);
+    }
+
+    /**
+     * Converts a given JSON stream to an object, reading directly from the
+     * stream without materializing the JSON as a string. If the conversion
+     * fails a new instance of the class is created
+     *
+     * @param json The JSON stream to convert
+     * @param clazz The Class to convert to
+     * @param <T> Javadoc wants this, just ignore it
+     *
+     * @return The converted class or an instance of UnprocessableContent if conversion and fallback fails
+     */
+    public static <T> T toObjectWithFallback(InputStream json, Class<T> clazz) {
+        Objects.requireNonNull(json, Required.JSON);
+        Objects.requireNonNull(clazz, Required.CLASS);
+
+        T object = null;
+        try {
+            object = MAPPER.readValue(json, clazz);
+        } catch (IOException e) {
+            //Intentionally left blank
+        }
+
+        return orFallback(object, clazz);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T orFallback(T object, Class<T> clazz) {
         try {
             return (object != null) ? object : clazz.getDeclaredConstructor().newInstance();
         } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
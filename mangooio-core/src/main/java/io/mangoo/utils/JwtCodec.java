@@ -0,0 +1,238 @@
+package io.mangoo.utils;
+
+import com.nimbusds.jose.EncryptionMethod;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWEAlgorithm;
+import com.nimbusds.jose.JWEHeader;
+import com.nimbusds.jose.JWEObject;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.crypto.DirectDecrypter;
+import com.nimbusds.jose.crypto.DirectEncrypter;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.mangoo.constants.Required;
+import io.mangoo.exceptions.MangooJwtException;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fury.util.Preconditions;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Creates and parses signed and encrypted JWTs with a fixed key, secret, issuer and audience.
+ * The signer, verifier, encrypter, decrypter and headers are created once and are thread-safe,
+ * thus a codec can be shared by all requests, e.g. one codec per cookie type.
+ */
+public final class JwtCodec {
+    private static final String JWT = "JWT";
+    private static final long SKEW_SECONDS = 30;
+    private static final JWSHeader JWS_HEADER = new JWSHeader.Builder(JWSAlgorithm.HS512)
+            .type(JOSEObjectType.JWT)
+            .build();
+    private static final JWEHeader JWE_HEADER = new JWEHeader.Builder(JWEAlgorithm.DIR, EncryptionMethod.A256CBC_HS512)
+            .contentType(JWT)
+            .build();
+    private final MACSigner signer;
+    private final MACVerifier verifier;
+    private final DirectEncrypter encrypter;
+    private final DirectDecrypter decrypter;
+    private final String issuer;
+    private final String audience;
+    private final long ttlSeconds;
+
+    private JwtCodec(JwtUtils.JwtData jwtData) throws JOSEException {
+        this.signer = new MACSigner(jwtData.key());
+        this.verifier = new MACVerifier(jwtData.key());
+        this.encrypter = new DirectEncrypter(jwtData.secret());
+        this.decrypter = new DirectDecrypter(jwtData.secret());
+        this.issuer = jwtData.issuer();
+        this.audience = jwtData.audience();
+        this.ttlSeconds = jwtData.ttlSeconds();
+    }
+
+    /**
+     * Creates a new codec from the key, secret, issuer, audience and TTL of the given JWT data.
+     * The TTL is the maximum lifetime a parsed token may have.
+     *
+     * @param jwtData The JWT data
+     * @return A new JwtCodec
+     *
+     * @throws MangooJwtException If the key or secret are not suitable for HS512 or A256CBC-HS512
+     */
+    public static JwtCodec of(JwtUtils.JwtData jwtData) throws MangooJwtException {
+        Objects.requireNonNull(jwtData, Required.JWT_DATA);
+        Objects.requireNonNull(jwtData.secret(), Required.SECRET);
+        Objects.requireNonNull(jwtData.key(), Required.KEY);
+        Argument.requireNonBlank(jwtData.issuer(), Required.ISSUER);
+        Argument.requireNonBlank(jwtData.audience(), Required.AUDIENCE);
+        Preconditions.checkArgument(jwtData.ttlSeconds() > 0, "TTL must be greater than 0.");
+
+        try {
+            return new JwtCodec(jwtData);
+        } catch (JOSEException e) {
+            throw new MangooJwtException(e);
+        }
+    }
+
+    /**
+     * Creates a signed and encrypted JWT with a random JWT ID
+     *
+     * @param subject The subject of the JWT
+     * @param ttlSeconds The lifetime of the JWT in seconds
+     * @param claims Additional claims, which must not conflict with a reserved claim
+     * @return The serialized JWT
+     *
+     * @throws MangooJwtException If signing or encryption fails
+     */
+    public String encode(String subject, long ttlSeconds, Map<String, String> claims) throws MangooJwtException {
+        return encode(subject, ttlSeconds, claims, null);
+    }
+
+    /**
+     * Creates a signed and encrypted JWT
+     *
+     * @param subject The subject of the JWT
+     * @param ttlSeconds The lifetime of the JWT in seconds
+     * @param claims Additional claims, which must not conflict with a reserved claim
+     * @param jwtID The JWT ID or null for a random one
+     * @return The serialized JWT
+     *
+     * @throws MangooJwtException If signing or encryption fails
+     */
+    public String encode(String subject, long ttlSeconds, Map<String, String> claims, String jwtID) throws MangooJwtException {
+        Argument.requireNonBlank(subject, Required.SUBJECT);
+        Preconditions.checkArgument(ttlSeconds > 0, "TTL must be greater than 0.");
+
+        try {
+            var now = Instant.now();
+            var claimsBuilder = new JWTClaimsSet.Builder()
+                    .issuer(issuer)
+                    .audience(audience)
+                    .subject(subject)
+                    .issueTime(Date.from(now))
+                    .notBeforeTime(Date.from(now.minusSeconds(SKEW_SECONDS)))
+                    .expirationTime(Date.from(now.plusSeconds(ttlSeconds)))
+                    .jwtID(StringUtils.isNotBlank(jwtID) ? jwtID : CommonUtils.randomString(32));
+
+            if (claims != null && !claims.isEmpty()) {
+                for (Map.Entry<String, String> entry : claims.entrySet()) {
+                    String key = Objects.requireNonNull(entry.getKey(), "extra claim key must not be null");
+                    if (JwtUtils.RESERVED.contains(key)) {
+                        throw new MangooJwtException("Extra claim '" + key + "' conflicts with a reserved claim");
+                    }
+                    claimsBuilder.claim(key, entry.getValue());
+                }
+            }
+
+            // Step 1: Sign JWT using KEY with HS512
+            var signedJWT = new SignedJWT(JWS_HEADER, claimsBuilder.build());
+            signedJWT.sign(signer);
+
+            // Step 2: Encrypt with SECRET using direct encryption with A256CBC-HS512
+            var jweObject = new JWEObject(JWE_HEADER, new Payload(signedJWT.serialize()));
+            jweObject.encrypt(encrypter);
+
+            return jweObject.serialize();
+        } catch (JOSEException e) {
+            throw new MangooJwtException(e);
+        }
+    }
+
+    /**
+     * Decrypts, verifies and validates a JWT
+     *
+     * @param jwt The serialized JWT
+     * @return The validated claims of the JWT
+     *
+     * @throws MangooJwtException If the JWT is invalid
+     */
+    public JWTClaimsSet decode(String jwt) throws MangooJwtException {
+        Argument.requireNonBlank(jwt, Required.JWT);
+
+        try {
+            // Step 1: Parse encrypted JWE
+            var jweObject = JWEObject.parse(jwt);
+
+            if (!JWEAlgorithm.DIR.equals(jweObject.getHeader().getAlgorithm())) {
+                throw new JOSEException("Unexpected JWE algorithm: " + jweObject.getHeader().getAlgorithm());
+            }
+            if (!EncryptionMethod.A256CBC_HS512.equals(jweObject.getHeader().getEncryptionMethod())) {
+                throw new JOSEException("Unexpected JWE encryption method: " + jweObject.getHeader().getEncryptionMethod());
+            }
+
+            // Step 2: Decrypt using SECRET with direct decryption
+            jweObject.decrypt(decrypter);
+
+            // Step 3: Extract and parse Signed JWT
+            var signedJWT = SignedJWT.parse(jweObject.getPayload().toString());
+
+            if (!JWSAlgorithm.HS512.equals(signedJWT.getHeader().getAlgorithm())) {
+                throw new JOSEException("Unexpected JWS algorithm: " + signedJWT.getHeader().getAlgorithm());
+            }
+
+            // Step 4: Verify signature using KEY
+            if (!signedJWT.verify(verifier)) {
+                throw new JOSEException("JWT signature verification failed");
+            }
+
+            // Validate claims
+            var claims = signedJWT.getJWTClaimsSet();
+            var now = Instant.now();
+
+            var exp = Objects.requireNonNull(claims.getExpirationTime(), "exp is required");
+            var iat = Objects.requireNonNull(claims.getIssueTime(), "iat is required");
+            var nbf = Objects.requireNonNull(claims.getNotBeforeTime(), "nbf is required");
+
+            if (!Objects.equals(issuer, claims.getIssuer())) {
+                throw new JOSEException("Issuer mismatch");
+            }
+
+            List<String> aud = claims.getAudience();
+            if (aud == null || aud.stream().noneMatch(audience::equals)) {
+                throw new JOSEException("Audience mismatch");
+            }
+
+            if (exp.toInstant().isBefore(now.minusSeconds(SKEW_SECONDS))) {
+                throw new JOSEException("Token expired");
+            }
+            if (nbf.toInstant().isAfter(now.plusSeconds(SKEW_SECONDS))) {
+                throw new JOSEException("Token not yet valid");
+            }
+            if (iat.toInstant().isAfter(now.plusSeconds(SKEW_SECONDS))) {
+                throw new JOSEException("Token issued in the future");
+            }
+
+            long lifetime = (exp.getTime() - iat.getTime()) / 1000L;
+            if (lifetime > ttlSeconds) {
+                throw new JOSEException("Token lifetime exceeds limit");
+            }
+
+            return claims;
+        } catch (JOSEException | ParseException e) {
+            throw new MangooJwtException(e);
+        }
+    }
+
+    /**
+     * @return The audience of the JWTs of this codec
+     */
+    public String getAudience() {
+        return audience;
+    }
+
+    /**
+     * @return The maximum lifetime in seconds of a parsed JWT
+     */
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+}
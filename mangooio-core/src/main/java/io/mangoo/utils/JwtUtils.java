@@ -1,24 +1,23 @@
 package io.mangoo.utils;
 
-import com.nimbusds.jose.*;
+import com.nimbusds.jose.EncryptionMethod;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWEAlgorithm;
+import com.nimbusds.jose.JWEObject;
 import com.nimbusds.jose.crypto.DirectDecrypter;
-import com.nimbusds.jose.crypto.DirectEncrypter;
-import com.nimbusds.jose.crypto.MACSigner;
-import com.nimbusds.jose.crypto.MACVerifier;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import io.mangoo.constants.Required;
 import io.mangoo.exceptions.MangooJwtException;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.fury.util.Preconditions;
 
-import java.text.ParseException;
-import java.time.Instant;
-import java.util.*;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 public final class JwtUtils {
-    private static final String JWT = "JWT";
-    private static final Set<String> RESERVED = Set.of("iss", "aud", "sub", "iat", "nbf", "exp", "jti");
+    static final Set<String> RESERVED = Set.of("iss", "aud", "sub", "iat", "nbf", "exp", "jti");
 
     private JwtUtils() {
     }
@@ -27,126 +26,14 @@ public final class JwtUtils {
         validate(jwtData);
         Argument.requireNonBlank(jwtData.subject(), Required.SUBJECT);
 
-        try {
-            var now = Instant.now();
-            var claimsBuilder = new JWTClaimsSet.Builder()
-                    .issuer(jwtData.issuer())
-                    .audience(jwtData.audience())
-                    .subject(jwtData.subject())
-                    .issueTime(Date.from(now))
-                    .notBeforeTime(Date.from(now.minusSeconds(30)))
-                    .expirationTime(Date.from(now.plusSeconds(jwtData.ttlSeconds())))
-                    .jwtID(StringUtils.isNotBlank(jwtData.jwtID()) ? jwtData.jwtID() : CommonUtils.randomString(32));
-
-            if (jwtData.claims() != null && !jwtData.claims().isEmpty()) {
-                for (Map.Entry<String, String> entry : jwtData.claims().entrySet()) {
-                    String key = Objects.requireNonNull(entry.getKey(), "extra claim key must not be null");
-                    if (RESERVED.contains(key)) {
-                        throw new MangooJwtException("Extra claim '" + key + "' conflicts with a reserved claim");
-                    }
-                    claimsBuilder.claim(key, entry.getValue());
-                }
-            }
-
-            JWTClaimsSet claimsSet = claimsBuilder.build();
-
-            // Step 1: Sign JWT using KEY with HS512
-            var jwsHeader = new JWSHeader.Builder(JWSAlgorithm.HS512)
-                    .type(JOSEObjectType.JWT)
-                    .build();
-
-            var signedJWT = new SignedJWT(jwsHeader, claimsSet);
-            var signer = new MACSigner(jwtData.key());
-            signedJWT.sign(signer);
-
-            // Step 2: Encrypt with SECRET using direct encryption with AES256-GCM
-            var jweHeader = new JWEHeader.Builder(
-                    JWEAlgorithm.DIR,
-                    EncryptionMethod.A256CBC_HS512)
-                    .contentType(JWT)
-                    .build();
-
-            var jweObject = new JWEObject(jweHeader, new Payload(signedJWT.serialize()));
-
-            var encrypter = new DirectEncrypter(jwtData.secret());
-            jweObject.encrypt(encrypter);
-
-            return jweObject.serialize();
-        } catch (JOSEException e) {
-            throw new MangooJwtException(e);
-        }
+        return JwtCodec.of(jwtData).encode(jwtData.subject(), jwtData.ttlSeconds(), jwtData.claims(), jwtData.jwtID());
     }
 
     public static JWTClaimsSet parseJwt(String jwt, JwtData jwtData) throws MangooJwtException {
         Argument.requireNonBlank(jwt, Required.JWT);
         validate(jwtData);
 
-        try {
-            // Step 1: Parse encrypted JWE
-            var jweObject = JWEObject.parse(jwt);
-
-            if (!JWEAlgorithm.DIR.equals(jweObject.getHeader().getAlgorithm())) {
-                throw new JOSEException("Unexpected JWE algorithm: " + jweObject.getHeader().getAlgorithm());
-            }
-            if (!EncryptionMethod.A256CBC_HS512.equals(jweObject.getHeader().getEncryptionMethod())) {
-                throw new JOSEException("Unexpected JWE encryption method: " + jweObject.getHeader().getEncryptionMethod());
-            }
-
-            // Step 2: Decrypt using SECRET with direct decryption
-            var decrypter = new DirectDecrypter(jwtData.secret());
-            jweObject.decrypt(decrypter);
-
-            // Step 3: Extract and parse Signed JWT
-            var signedJWT = SignedJWT.parse(jweObject.getPayload().toString());
-
-            if (!JWSAlgorithm.HS512.equals(signedJWT.getHeader().getAlgorithm())) {
-                throw new JOSEException("Unexpected JWS algorithm: " + signedJWT.getHeader().getAlgorithm());
-            }
-
-            // Step 4: Verify signature using KEY
-            var verifier = new MACVerifier(jwtData.key());
-            if (!signedJWT.verify(verifier)) {
-                throw new JOSEException("JWT signature verification failed");
-            }
-
-            // Validate claims
-            var claims = signedJWT.getJWTClaimsSet();
-            var now = Instant.now();
-
-            var exp = Objects.requireNonNull(claims.getExpirationTime(), "exp is required");
-            var iat = Objects.requireNonNull(claims.getIssueTime(), "iat is required");
-            var nbf = Objects.requireNonNull(claims.getNotBeforeTime(), "nbf is required");
-
-            if (!Objects.equals(jwtData.issuer(), claims.getIssuer())) {
-                throw new JOSEException("Issuer mismatch");
-            }
-
-            List<String> aud = claims.getAudience();
-            if (aud == null || aud.stream().noneMatch(jwtData.audience()::equals)) {
-                throw new JOSEException("Audience mismatch");
-            }
-
-            long skew = 30; // allowable clock skew
-
-            if (exp.toInstant().isBefore(now.minusSeconds(skew))) {
-                throw new JOSEException("Token expired");
-            }
-            if (nbf.toInstant().isAfter(now.plusSeconds(skew))) {
-                throw new JOSEException("Token not yet valid");
-            }
-            if (iat.toInstant().isAfter(now.plusSeconds(skew))) {
-                throw new JOSEException("Token issued in the future");
-            }
-
-            long lifetime = (exp.getTime() - iat.getTime()) / 1000L;
-            if (lifetime > jwtData.ttlSeconds()) {
-                throw new JOSEException("Token lifetime exceeds limit");
-            }
-
-            return claims;
-        } catch (JOSEException | ParseException e) {
-            throw new MangooJwtException(e);
-        }
+        return JwtCodec.of(jwtData).decode(jwt);
     }
 
     public static String extractSubject(String jwt, byte[] secret) throws MangooJwtException {
@@ -10,11 +10,13 @@ import io.mangoo.routing.Attachment;
 import io.mangoo.routing.bindings.Request;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.util.AttachmentKey;
+import io.undertow.util.DateUtils;
 import io.undertow.util.Methods;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.time.Instant;
 import java.util.*;
 
 public final class RequestUtils {
@@ -49,6 +51,49 @@ public final class RequestUtils {
         return requestParameter;
     }
 
+    /**
+     * Checks if the client already has the current version of a response, based on the
+     * If-None-Match and If-Modified-Since headers of a GET or HEAD request. If-Modified-Since
+     * is ignored if If-None-Match is present.
+     *
+     * @param exchange The Undertow HttpServerExchange
+     * @param etag The quoted ETag of the response or null
+     * @param lastModified The time the response has been modified last or null
+     * @return True if a 304 Not Modified can be sent, false otherwise
+     */
+    public static boolean isNotModified(HttpServerExchange exchange, String etag, Instant lastModified) {
+        Objects.requireNonNull(exchange, Required.HTTP_SERVER_EXCHANGE);
+
+        if (!Methods.GET.equals(exchange.getRequestMethod()) && !Methods.HEAD.equals(exchange.getRequestMethod())) {
+            return false;
+        }
+
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst(Header.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return etag != null && matchesETag(ifNoneMatch, etag);
+        }
+
+        String ifModifiedSince = exchange.getRequestHeaders().getFirst(Header.IF_MODIFIED_SINCE);
+        if (ifModifiedSince != null && lastModified != null) {
+            Date date = DateUtils.parseDate(ifModifiedSince);
+            return date != null && lastModified.getEpochSecond() <= date.toInstant().getEpochSecond();
+        }
+
+        return false;
+    }
+
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        String tag = StringUtils.removeStart(etag, "W/");
+        for (String value : ifNoneMatch.split(",")) {
+            String candidate = StringUtils.removeStart(value.trim(), "W/");
+            if ("*".equals(candidate) || candidate.equals(tag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     /**
      * Checks if the request is a POST, PUT or PATCH request
      *
@@ -0,0 +1,248 @@
+package io.mangoo.utils;
+
+import io.mangoo.constants.Required;
+import io.mangoo.exceptions.MangooJwtException;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Writes the session values, the CSRF token and the expiry as a compact, length-prefixed
+ * binary record, sealed with a single AES-256-GCM pass. The cookie name and issuer are
+ * authenticated as associated data, thus a record can not be used as another cookie.
+ * <p>
+ * Each record carries the ID of the key it was sealed with. Records are always sealed
+ * with the current key, but can also be opened with previous keys, which allows rotating
+ * the secret without invalidating all sessions at once.
+ * <p>
+ * Format: version (1 byte), key ID (4 bytes), nonce (12 bytes), ciphertext and tag
+ */
+public final class SessionCodec {
+    private static final byte VERSION = 1;
+    private static final int HEADER_LENGTH = 1 + Integer.BYTES;
+    private static final int NONCE_LENGTH = 12;
+    private static final int TAG_LENGTH = 16;
+    private static final int MAX_VALUES = 1024;
+    private static final long SKEW_SECONDS = 30;
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final String AES = "AES";
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    private static final byte[] KEY_INFO = "mangooio-session-v1".getBytes(StandardCharsets.UTF_8);
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private final Map<Integer, SecretKeySpec> keys = new HashMap<>();
+    private final byte[] associatedData;
+    private final SecretKeySpec key;
+    private final long ttlSeconds;
+    private final int keyId;
+
+    /**
+     * Creates a new codec
+     *
+     * @param secret The current secret, from which the sealing key is derived
+     * @param previousSecrets Previous secrets, whose records can still be opened
+     * @param issuer The issuer, usually the application name
+     * @param audience The audience, usually the cookie name
+     * @param ttlSeconds The maximum remaining lifetime in seconds of an opened record
+     */
+    public SessionCodec(byte[] secret, List<byte[]> previousSecrets, String issuer, String audience, long ttlSeconds) {
+        Objects.requireNonNull(secret, Required.SECRET);
+        Objects.requireNonNull(previousSecrets, Required.SECRET);
+        Argument.requireNonBlank(issuer, Required.ISSUER);
+        Argument.requireNonBlank(audience, Required.AUDIENCE);
+
+        this.key = deriveKey(secret);
+        this.keyId = getKeyId(key);
+        this.ttlSeconds = ttlSeconds;
+        this.associatedData = (issuer + '\n' + audience).getBytes(StandardCharsets.UTF_8);
+
+        for (byte[] previousSecret : previousSecrets) {
+            var previousKey = deriveKey(previousSecret);
+            keys.put(getKeyId(previousKey), previousKey);
+        }
+        keys.put(keyId, key);
+    }
+
+    /**
+     * Checks if a cookie value is a compact record, as opposed to a JWT
+     *
+     * @param value The cookie value
+     * @return True if the value is a compact record, false otherwise
+     */
+    public static boolean isCompact(String value) {
+        return value != null && value.indexOf('.') < 0;
+    }
+
+    /**
+     * Seals the session into a compact record
+     *
+     * @param values The values of the session
+     * @param csrf The CSRF token of the session
+     * @param expires The expiry of the session
+     * @return The URL-safe Base64 encoded record
+     *
+     * @throws MangooJwtException If sealing fails
+     */
+    public String encode(Map<String, String> values, String csrf, Instant expires) throws MangooJwtException {
+        Objects.requireNonNull(values, Required.VALUES);
+        Objects.requireNonNull(expires, Required.EXPIRES);
+
+        try {
+            var plaintext = new ByteArrayOutputStream(256);
+            var out = new DataOutputStream(plaintext);
+            out.writeLong(expires.getEpochSecond());
+            writeString(out, csrf);
+            out.writeInt(values.size());
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                writeString(out, entry.getKey());
+                writeString(out, entry.getValue());
+            }
+
+            var nonce = new byte[NONCE_LENGTH];
+            RANDOM.nextBytes(nonce);
+
+            var cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * 8, nonce));
+
+            var record = ByteBuffer.allocate(HEADER_LENGTH + NONCE_LENGTH + cipher.getOutputSize(plaintext.size()));
+            record.put(VERSION).putInt(keyId).put(nonce);
+            cipher.updateAAD(associatedData);
+            cipher.updateAAD(record.array(), 0, HEADER_LENGTH);
+            cipher.doFinal(ByteBuffer.wrap(plaintext.toByteArray()), record);
+
+            return ENCODER.encodeToString(record.array());
+        } catch (IOException | GeneralSecurityException e) {
+            throw new MangooJwtException(e);
+        }
+    }
+
+    /**
+     * Opens a compact record and validates its expiry
+     *
+     * @param value The URL-safe Base64 encoded record
+     * @return The opened session data
+     *
+     * @throws MangooJwtException If the record is invalid, sealed with an unknown key or expired
+     */
+    public Data decode(String value) throws MangooJwtException {
+        Argument.requireNonBlank(value, Required.VALUE);
+
+        try {
+            var record = ByteBuffer.wrap(DECODER.decode(value));
+            if (record.remaining() < HEADER_LENGTH + NONCE_LENGTH + TAG_LENGTH || record.get() != VERSION) {
+                throw new MangooJwtException("Invalid session record");
+            }
+
+            var recordKey = keys.get(record.getInt());
+            if (recordKey == null) {
+                throw new MangooJwtException("Session record sealed with an unknown key");
+            }
+
+            var nonce = new byte[NONCE_LENGTH];
+            record.get(nonce);
+
+            var cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.DECRYPT_MODE, recordKey, new GCMParameterSpec(TAG_LENGTH * 8, nonce));
+            cipher.updateAAD(associatedData);
+            cipher.updateAAD(record.array(), 0, HEADER_LENGTH);
+            var plaintext = ByteBuffer.wrap(cipher.doFinal(record.array(), record.position(), record.remaining()));
+
+            var expires = Instant.ofEpochSecond(plaintext.getLong());
+            var now = Instant.now();
+            if (expires.isBefore(now.minusSeconds(SKEW_SECONDS))) {
+                throw new MangooJwtException("Session record expired");
+            }
+            if (expires.isAfter(now.plusSeconds(ttlSeconds + SKEW_SECONDS))) {
+                throw new MangooJwtException("Session record lifetime exceeds limit");
+            }
+
+            var csrf = readString(plaintext);
+            int size = plaintext.getInt();
+            if (csrf == null || size < 0 || size > MAX_VALUES) {
+                throw new MangooJwtException("Invalid session record");
+            }
+
+            Map<String, String> values = HashMap.newHashMap(size);
+            for (int i = 0; i < size; i++) {
+                values.put(readString(plaintext), readString(plaintext));
+            }
+
+            return new Data(values, csrf, expires);
+        } catch (IllegalArgumentException | BufferUnderflowException | GeneralSecurityException e) {
+            throw new MangooJwtException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+        } else {
+            var bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        var value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+
+        return value;
+    }
+
+    private static SecretKeySpec deriveKey(byte[] secret) {
+        try {
+            var mac = Mac.getInstance(HMAC_SHA256);
+            mac.init(new SecretKeySpec(secret, HMAC_SHA256));
+
+            return new SecretKeySpec(mac.doFinal(KEY_INFO), AES);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Invalid session cookie secret", e);
+        }
+    }
+
+    private static int getKeyId(SecretKeySpec key) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(key.getEncoded())).getInt();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The opened content of a session record
+     *
+     * @param values The values of the session
+     * @param csrf The CSRF token of the session
+     * @param expires The expiry of the session
+     */
+    public record Data(Map<String, String> values, String csrf, Instant expires) {
+    }
+}
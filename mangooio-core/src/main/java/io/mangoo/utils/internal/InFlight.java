@@ -0,0 +1,81 @@
+package io.mangoo.utils.internal;
+
+import io.mangoo.constants.Required;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class InFlight {
+    public static final String EVENTS = "event deliveries";
+    public static final String SERVER_SENT_EVENTS = "server-sent event sends";
+    private static final Map<String, AtomicInteger> PENDING = new ConcurrentHashMap<>();
+    private static final Object LOCK = new Object();
+
+    private InFlight() {}
+
+    /**
+     * Runs the given task on a new virtual thread, counting it as in flight until it completes
+     *
+     * @param kind The kind of the task, e.g. InFlight.EVENTS
+     * @param task The task to run
+     */
+    public static void start(String kind, Runnable task) {
+        Objects.requireNonNull(kind, Required.NAME);
+        Objects.requireNonNull(task, Required.RUNNABLE);
+
+        var pending = PENDING.computeIfAbsent(kind, key -> new AtomicInteger());
+        pending.incrementAndGet();
+        Thread.ofVirtual().start(() -> {
+            try {
+                task.run();
+            } finally {
+                if (pending.decrementAndGet() == 0) {
+                    synchronized (LOCK) {
+                        LOCK.notifyAll();
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Waits until all tasks in flight completed or the given deadline passed
+     *
+     * @param deadline The value of System.nanoTime() until which to wait at most
+     * @return The number of tasks still in flight per kind, empty if all tasks completed
+     */
+    public static Map<String, Integer> await(long deadline) {
+        synchronized (LOCK) {
+            long remaining = deadline - System.nanoTime();
+            while (!getPending().isEmpty() && remaining > 0) {
+                try {
+                    LOCK.wait(Math.max(1, TimeUnit.NANOSECONDS.toMillis(remaining)));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                remaining = deadline - System.nanoTime();
+            }
+        }
+
+        return getPending();
+    }
+
+    /**
+     * @return The number of tasks currently in flight per kind, omitting kinds without tasks
+     */
+    public static Map<String, Integer> getPending() {
+        Map<String, Integer> pending = new TreeMap<>();
+        PENDING.forEach((kind, count) -> {
+            if (count.get() > 0) {
+                pending.put(kind, count.get());
+            }
+        });
+
+        return pending;
+    }
+}
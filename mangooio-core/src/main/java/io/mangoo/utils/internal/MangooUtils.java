@@ -18,6 +18,7 @@ import io.undertow.server.handlers.Cookie;
 import io.undertow.server.handlers.CookieImpl;
 import jakarta.validation.MessageInterpolator;
 import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import jakarta.validation.executable.ExecutableValidator;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -32,6 +33,7 @@ import javax.xml.parsers.DocumentBuilderFactory;
 import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
+import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -50,6 +52,7 @@ public final class MangooUtils {
     private static final String VERSION_PROPERTIES = "version.properties";
     private static final String VERSION_UNKNOWN = "unknown";
     private static final Set<String> VALID_TIMEZONES = ZoneId.getAvailableZoneIds();
+    private static final Validator beanValidator;
     private static final ExecutableValidator executableValidator;
     static {
         var configuration = Validation.byDefaultProvider().configure();
@@ -58,7 +61,8 @@ public final class MangooUtils {
                 .messageInterpolator(englishInterpolator)
                 .buildValidatorFactory()) {
 
-            executableValidator = validatorFactory.getValidator().forExecutables();
+            beanValidator = validatorFactory.getValidator();
+            executableValidator = beanValidator.forExecutables();
         }
     }
 
@@ -68,6 +72,22 @@ public final class MangooUtils {
         return executableValidator;
     }
 
+    /**
+     * Checks if the parameters of a given method have constraints, either
+     * on a parameter, as cross-parameter constraint or via cascading
+     *
+     * @param method The method to check
+     * @return True if the method parameters need to be validated, false otherwise
+     */
+    public static boolean hasConstrainedParameters(Method method) {
+        Objects.requireNonNull(method, Required.METHOD);
+
+        var descriptor = beanValidator.getConstraintsForClass(method.getDeclaringClass())
+                .getConstraintsForMethod(method.getName(), method.getParameterTypes());
+
+        return descriptor != null && descriptor.hasConstrainedParameters();
+    }
+
     @SuppressFBWarnings(justification = "Only used to retrieve the version of mangoo I/O", value = "URLCONNECTION_SSRF_FD")
     public static String getVersion() {
         var version = VERSION_UNKNOWN;
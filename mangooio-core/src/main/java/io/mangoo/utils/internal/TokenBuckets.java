@@ -0,0 +1,159 @@
+package io.mangoo.utils.internal;
+
+import com.google.common.hash.Hashing;
+import io.mangoo.constants.Required;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed-size table of token buckets held in primitive arrays. Each key occupies 16 bytes,
+ * thus memory is bounded by the capacity of the table, no matter how many keys are seen.
+ * Keys are hashed into sets of four buckets, evicting the longest idle bucket of a set
+ * when a new key arrives. Buckets are guarded by striped locks.
+ */
+public final class TokenBuckets {
+    public static final long MAX_LIMIT = (1L << 24) - 1;
+    private static final int WAYS = 4;
+    private static final int STRIPES = 256;
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = MAX_LIMIT;
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+    private final long[] fingerprints;
+    private final long[] states;
+    private final long base = System.currentTimeMillis();
+    private final long limit;
+    private final long period;
+    private final int sets;
+
+    /**
+     * Creates a new table of token buckets
+     *
+     * @param limit The number of tokens of a full bucket
+     * @param period The time in milliseconds in which an empty bucket is refilled completely
+     * @param capacity The maximum number of keys, rounded up to a power of two
+     */
+    public TokenBuckets(long limit, long period, int capacity) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        if (period < 1) {
+            throw new IllegalArgumentException("period must be at least one millisecond");
+        }
+
+        this.limit = limit;
+        this.period = period;
+        this.sets = Integer.highestOneBit(Math.max(capacity / WAYS - 1, STRIPES - 1)) << 1;
+        this.fingerprints = new long[sets * WAYS];
+        this.states = new long[sets * WAYS];
+
+        for (var i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Takes a token from the bucket of the given key, creating a full bucket if the key is unknown
+     *
+     * @param key The key of the bucket, e.g. an IP address
+     * @return The remaining tokens if a token was taken, or -1 minus the milliseconds until
+     *         the next token is available if the bucket is empty
+     */
+    public long tryAcquire(String key) {
+        Objects.requireNonNull(key, Required.KEY);
+
+        long fingerprint = Hashing.farmHashFingerprint64().hashString(key, StandardCharsets.UTF_8).asLong();
+        if (fingerprint == 0) {
+            fingerprint = 1;
+        }
+
+        int set = (int) (fingerprint ^ (fingerprint >>> 32)) & (sets - 1);
+        ReentrantLock lock = locks[set & (STRIPES - 1)];
+        lock.lock();
+        try {
+            return acquire(set * WAYS, fingerprint, System.currentTimeMillis() - base);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long acquire(int offset, long fingerprint, long now) {
+        int slot = find(offset, fingerprint);
+        long tokens;
+        long timestamp;
+
+        if (fingerprints[slot] == fingerprint) {
+            tokens = states[slot] & TOKEN_MASK;
+            timestamp = states[slot] >>> TOKEN_BITS;
+
+            long elapsed = now - timestamp;
+            if (elapsed >= period) {
+                tokens = limit;
+                timestamp = now;
+            } else {
+                long refill = elapsed * limit / period;
+                if (refill > 0) {
+                    tokens = Math.min(limit, tokens + refill);
+                    timestamp = tokens == limit ? now : timestamp + refill * period / limit;
+                }
+            }
+        } else {
+            fingerprints[slot] = fingerprint;
+            tokens = limit;
+            timestamp = now;
+        }
+
+        if (tokens == 0) {
+            states[slot] = timestamp << TOKEN_BITS;
+            long wait = Math.max(1, period / limit - (now - timestamp));
+            return -1 - wait;
+        }
+
+        tokens--;
+        states[slot] = (timestamp << TOKEN_BITS) | tokens;
+
+        return tokens;
+    }
+
+    /**
+     * Finds the bucket of the given fingerprint within a set, or the longest idle
+     * bucket of the set if the fingerprint has no bucket yet
+     */
+    private int find(int offset, long fingerprint) {
+        int idle = offset;
+        for (int slot = offset; slot < offset + WAYS; slot++) {
+            if (fingerprints[slot] == fingerprint || fingerprints[slot] == 0) {
+                return slot;
+            }
+
+            if ((states[slot] >>> TOKEN_BITS) < (states[idle] >>> TOKEN_BITS)) {
+                idle = slot;
+            }
+        }
+
+        return idle;
+    }
+
+    /**
+     * @return The number of tokens of a full bucket
+     */
+    public long getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return The time in milliseconds in which an empty bucket is refilled completely
+     */
+    public long getPeriod() {
+        return period;
+    }
+
+    /**
+     * @return The maximum number of keys
+     */
+    public int getCapacity() {
+        return fingerprints.length;
+    }
+}
@@ -73,6 +73,9 @@ public final class Trace {
     private Trace() {}
 
     public static void shutdown() {
+        SCHEDULED_CLOSURES.values().forEach(closure -> closure.cancel(false));
+        SPANS.values().forEach(Span::end);
+
         if (tracerProvider != null) {
             try {
                 tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
@@ -0,0 +1,79 @@
+package io.mangoo.utils.internal;
+
+import io.mangoo.core.Application;
+import io.mangoo.models.Metrics;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.apache.commons.lang3.Strings;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public final class VirtualThreads {
+    private static final Logger LOG = LogManager.getLogger(VirtualThreads.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20);
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("mangooio-virtual-", 0).factory());
+    private static RecordingStream recordingStream;
+
+    private VirtualThreads() {}
+
+    /**
+     * @return The executor which runs each dispatched request on a new virtual thread
+     */
+    public static Executor executor() {
+        return EXECUTOR;
+    }
+
+    /**
+     * Starts listening for virtual threads pinning their carrier thread longer than
+     * 20 ms, counting each occurrence in the metrics and logging where it happened
+     */
+    public static synchronized void startPinningDetection() {
+        if (recordingStream == null) {
+            try {
+                var metrics = Application.getInstance(Metrics.class);
+                var stream = new RecordingStream();
+                stream.enable(PINNED_EVENT).withThreshold(PINNED_THRESHOLD).withStackTrace();
+                stream.onEvent(PINNED_EVENT, event -> {
+                    metrics.incrementPinnedVirtualThreads();
+                    LOG.warn("Virtual thread pinned its carrier thread for {} ms at {}", event.getDuration().toMillis(), getLocation(event));
+                });
+                stream.startAsync();
+
+                recordingStream = stream;
+            } catch (Exception e) {
+                LOG.warn("Failed to start detection of pinned virtual threads", e);
+            }
+        }
+    }
+
+    public static synchronized void shutdown() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+
+        EXECUTOR.shutdown();
+    }
+
+    private static String getLocation(RecordedEvent event) {
+        var stackTrace = event.getStackTrace();
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown location";
+        }
+
+        RecordedFrame frame = stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .filter(recordedFrame -> !Strings.CS.startsWithAny(recordedFrame.getMethod().getType().getName(), "java.", "jdk.", "sun."))
+                .findFirst()
+                .orElse(stackTrace.getFrames().getFirst());
+
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
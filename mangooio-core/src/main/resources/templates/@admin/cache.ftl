@@ -16,6 +16,8 @@
 					<thead>
 					<tr>
 						<th><b>Cache name</b></th>
+						<th><b>Entries</b></th>
+						<th><b>Memory</b></th>
 						<th><b>Evictions</b></th>
 						<th><b>Requests</b></th>
 						<th><b>Hits</b></th>
@@ -28,6 +30,8 @@
 					<#list statistics as name, statistic>
 						<tr>
 							<td>${name}</td>
+							<td>${sizes[name]}</td>
+							<td>${memory[name]!"-"}</td>
 							<td>${statistic.evictionCount()}</td>
 							<td>${statistic.requestCount()}</td>
 							<td>${statistic.hitCount()}</td>
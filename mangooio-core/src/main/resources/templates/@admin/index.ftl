@@ -115,6 +115,120 @@
             </div>
         </div>
     </div>
+    <div class="columns">
+        <div class="column">
+            <div class="card">
+                <div class="card-content">
+                    <p class="title">${virtualTasks}</p>
+                </div>
+                <footer class="card-footer">
+                    <p class="card-footer-item"><span>Active virtual threads</span></p>
+                </footer>
+            </div>
+        </div>
+        <div class="column">
+            <div class="card">
+                <div class="card-content">
+                    <p class="title">${virtualTasksTotal}</p>
+                </div>
+                <footer class="card-footer">
+                    <p class="card-footer-item"><span>Total virtual threads</span></p>
+                </footer>
+            </div>
+        </div>
+        <div class="column">
+            <div class="card">
+                <div class="card-content">
+                    <p class="title">${pinnedVirtualThreads}</p>
+                </div>
+                <footer class="card-footer">
+                    <p class="card-footer-item"><span>Pinned virtual threads</span></p>
+                </footer>
+            </div>
+        </div>
+        <div class="column">
+            <div class="card">
+                <div class="card-content">
+                    <p class="title">${coalescedRequests}</p>
+                </div>
+                <footer class="card-footer">
+                    <p class="card-footer-item"><span>Coalesced requests</span></p>
+                </footer>
+            </div>
+        </div>
+    </div>
+    <div class="columns">
+        <div class="column">
+            <div class="card">
+                <div class="card-content">
+                    <p class="title">${concurrencyLimit}</p>
+                </div>
+                <footer class="card-footer">
+                    <p class="card-footer-item"><span>Concurrency limit</span></p>
+                </footer>
+            </div>
+        </div>
+        <div class="column">
+            <div class="card">
+                <div class="card-content">
+                    <p class="title">${shedRequests}</p>
+                </div>
+                <footer class="card-footer">
+                    <p class="card-footer-item"><span>Shed requests</span></p>
+                </footer>
+            </div>
+        </div>
+    </div>
+    </#if>
+    <div class="columns">
+        <div class="column">
+            <div class="table-container">
+                <table class="table is-fullwidth">
+                    <thead>
+                    <tr>
+                        <th><b>Connector</b></th>
+                        <th><b>Effective value</b></th>
+                    </tr>
+                    </thead>
+                    <tbody>
+                    <#list connector as name, value>
+                        <tr>
+                            <td>${name}</td>
+                            <td>${value}</td>
+                        </tr>
+                    </#list>
+                    </tbody>
+                </table>
+            </div>
+        </div>
+    </div>
+    <#if routes?has_content>
+    <div class="columns">
+        <div class="column">
+            <div class="table-container">
+                <table class="table is-fullwidth">
+                    <thead>
+                    <tr>
+                        <th><b>Method</b></th>
+                        <th><b>URL</b></th>
+                        <th><b>Handler chain</b></th>
+                        <#if enabled><th><b>Timeouts</b></th></#if>
+                    </tr>
+                    </thead>
+                    <tbody>
+                    <#list routes as route>
+                        <tr>
+                            <td>${route.getMethod()}</td>
+                            <td>${route.getUrl()}</td>
+                            <td>${route.getHandlerChain()?join(" → ")}</td>
+                            <#if enabled><td>${(timeouts[route.getMethod() + " " + route.getUrl()])!0}</td></#if>
+                        </tr>
+                    </#list>
+                    </tbody>
+                </table>
+            </div>
+        </div>
+    </div>
     </#if>
     <div class="columns">
         <div class="column">
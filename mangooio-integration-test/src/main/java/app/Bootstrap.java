@@ -4,11 +4,14 @@ import controllers.*;
 import controllers.subcontrollers.SubController;
 import io.mangoo.constants.Header;
 import io.mangoo.core.Server;
+import io.mangoo.enums.Dispatch;
 import io.mangoo.enums.Http;
 import io.mangoo.interfaces.MangooBootstrap;
 import io.mangoo.routing.Bind;
 import io.mangoo.routing.On;
 
+import java.time.Duration;
+
 @SuppressWarnings("all")
 public class Bootstrap implements MangooBootstrap {
 
@@ -20,7 +23,8 @@ public class Bootstrap implements MangooBootstrap {
         // SessionController
         Bind.controller(SessionController.class).withRoutes(
                 On.get().to("/session").respondeWith("session"),
-                On.get().to("/session/valued/{uuid}").respondeWith("valued")
+                On.get().to("/session/valued/{uuid}").respondeWith("valued"),
+                On.get().to("/session/nocookies").respondeWith("session").withoutCookies()
         );
         
         // FilterController
@@ -133,6 +137,21 @@ public class Bootstrap implements MangooBootstrap {
                 On.get().to("/location/{myloca}").respondeWith("location"),
                 On.get().to("/redirect").respondeWith("redirect"),
                 On.get().to("/text").respondeWith("text"),
+                On.get().to("/file").respondeWith("file"),
+                On.get().to("/cached").respondeWith("cached"),
+                On.get().to("/coalesced").respondeWith("coalesced").withCoalescing(),
+                On.get().to("/etag").respondeWith("etag").withETag(),
+                On.get().to("/version").respondeWith("version").withETag(),
+                On.get().to("/versioned").respondeWith("versioned"),
+                On.get().to("/static").respondeWith("staticMethod"),
+                On.post().to("/versioned").respondeWith("versioned"),
+                On.get().to("/limited").respondeWith("limited"),
+                On.get().to("/limited/key").respondeWith("limitedKey"),
+                On.get().to("/timeout").respondeWith("timeout").withTimeout(Duration.ofMillis(500)),
+                On.get().to("/deadline").respondeWith("deadline").withTimeout(Duration.ofSeconds(10)),
+                On.get().to("/stream").respondeWith("stream"),
+                On.get().to("/stream/json").respondeWith("streamJson"),
+                On.get().to("/text/virtual").respondeWith("text").withNonBlocking().withDispatch(Dispatch.VIRTUAL),
                 On.get().to("/forbidden").respondeWith("forbidden"),
                 On.get().to("/badrequest").respondeWith("badrequest"),
                 On.get().to("/not-modified").respondeWith("notmodified"),
@@ -154,6 +173,12 @@ public class Bootstrap implements MangooBootstrap {
                 On.get().to("/default-xxx").respondeWith("defaultXXX")
          );
          
+         // LimitedController
+         Bind.controller(LimitedController.class).withRoutes(
+                 On.get().to("/limited/class/first").respondeWith("first"),
+                 On.get().to("/limited/class/second").respondeWith("second")
+         );
+
          // SubController
          Bind.controller(SubController.class).withRoutes(
                  On.get().to("/subcontroller").respondeWith("check")
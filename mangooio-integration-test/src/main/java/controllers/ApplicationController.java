@@ -1,27 +1,38 @@
 package controllers;
 
 import com.google.common.io.Resources;
+import io.mangoo.annotations.CachedResponse;
 import io.mangoo.annotations.FilterWith;
+import io.mangoo.annotations.RateLimit;
 import io.mangoo.constants.Key;
 import io.mangoo.constants.Required;
 import io.mangoo.core.Application;
+import io.mangoo.enums.RateLimitKey;
 import io.mangoo.filters.ApiKeyFilter;
 import io.mangoo.filters.OriginFilter;
 import io.mangoo.persistence.interfaces.Datastore;
+import io.mangoo.routing.Deadline;
 import io.mangoo.routing.Response;
 import io.mangoo.routing.bindings.Request;
+import io.undertow.server.handlers.CookieImpl;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import models.Person;
 
 import java.io.IOException;
+import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 public class ApplicationController {
+    private static final AtomicInteger COUNTER = new AtomicInteger();
     private final String named;
 
     @Inject
@@ -72,6 +83,69 @@ public class ApplicationController {
     public Response text() {
         return Response.ok().bodyText("foo");
     }
+
+    public Response file() throws URISyntaxException {
+        return Response.ok().bodyFile(Path.of(Resources.getResource("files/robots.txt").toURI()));
+    }
+
+    @CachedResponse(ttl = 60, varyBy = "page")
+    public Response cached() {
+        return Response.ok().bodyText(String.valueOf(COUNTER.incrementAndGet()));
+    }
+
+    public Response coalesced() throws InterruptedException {
+        Thread.sleep(500);
+        return Response.ok().bodyText(String.valueOf(COUNTER.incrementAndGet()));
+    }
+
+    public Response etag() {
+        return Response.ok().bodyText("etag");
+    }
+
+    @RateLimit(limit = 2, period = 60)
+    public Response limited() {
+        return Response.ok().bodyText("limited");
+    }
+
+    @RateLimit(limit = 2, period = 60, key = RateLimitKey.API_KEY)
+    public Response limitedKey() {
+        return Response.ok().bodyText("limited");
+    }
+
+    public Response timeout() throws InterruptedException {
+        Thread.sleep(Duration.ofSeconds(5));
+        return Response.ok().bodyText("timeout");
+    }
+
+    public Response deadline() {
+        return Response.ok().bodyText(String.valueOf(Deadline.getMaxTime() > 0));
+    }
+
+    public Response version() {
+        return Response.ok().etag("v1").bodyText("version");
+    }
+
+    public static Response staticMethod() {
+        return Response.ok().bodyText("static");
+    }
+
+    public Response versioned() {
+        return Response.ok().etag("v2").cookie(new CookieImpl("version", "v2")).render();
+    }
+
+    public Response stream() {
+        return Response.ok()
+                .contentType("text/csv")
+                .bodyStream(outputStream -> {
+                    for (var i = 0; i < 3; i++) {
+                        outputStream.write(("line" + i + "\n").getBytes(StandardCharsets.UTF_8));
+                    }
+                });
+    }
+
+    public Response streamJson() {
+        return Response.ok().bodyJsonStream(Stream.of(new Person("foo", "bar", 42), new Person("bar", "foo", 24)));
+    }
     
     public Response named() {
         return Response.ok().bodyText(named);
@@ -0,0 +1,16 @@
+package controllers;
+
+import io.mangoo.annotations.RateLimit;
+import io.mangoo.routing.Response;
+
+@RateLimit(limit = 2, period = 60)
+public class LimitedController {
+
+    public Response first() {
+        return Response.ok().bodyText("first");
+    }
+
+    public Response second() {
+        return Response.ok().bodyText("second");
+    }
+}
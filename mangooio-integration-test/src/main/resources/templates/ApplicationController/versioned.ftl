@@ -0,0 +1 @@
+versioned
\ No newline at end of file
@@ -17,6 +17,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.UUID;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
@@ -221,6 +223,229 @@ class ApplicationControllerTest {
         assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
     }
 
+    @Test
+    void testPlainTextVirtualDispatch() {
+        //given
+        final TestResponse response = TestRequest.get("/text/virtual").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getContentType(), equalTo(TEXT_PLAIN));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getContent(), equalTo("foo"));
+    }
+
+    @Test
+    void testCachedResponse() {
+        //given
+        final TestResponse response = TestRequest.get("/cached").execute();
+
+        //when
+        final TestResponse cached = TestRequest.get("/cached").execute();
+        final TestResponse varied = TestRequest.get("/cached?page=2").execute();
+
+        //then
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(cached.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(cached.getContent(), equalTo(response.getContent()));
+        assertThat(cached.getContentType(), equalTo(response.getContentType()));
+        assertThat(varied.getContent(), not(equalTo(response.getContent())));
+    }
+
+    @Test
+    void testETag() {
+        //given
+        final TestResponse response = TestRequest.get("/etag").execute();
+        final String etag = response.getHeader("ETag");
+
+        //when
+        final TestResponse conditional = TestRequest.get("/etag")
+                .withHeader("If-None-Match", etag)
+                .execute();
+
+        //then
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getContent(), equalTo("etag"));
+        assertThat(etag, not(nullValue()));
+        assertThat(conditional.getStatusCode(), equalTo(StatusCodes.NOT_MODIFIED));
+        assertThat(conditional.getHeader("ETag"), equalTo(etag));
+        assertThat(conditional.getContent(), emptyString());
+    }
+
+    @Test
+    void testRateLimit() {
+        //given
+        final TestResponse first = TestRequest.get("/limited").execute();
+        final TestResponse second = TestRequest.get("/limited").execute();
+
+        //when
+        final TestResponse limited = TestRequest.get("/limited").execute();
+
+        //then
+        assertThat(first.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(first.getHeader("RateLimit-Limit"), equalTo("2"));
+        assertThat(first.getHeader("RateLimit-Remaining"), equalTo("1"));
+        assertThat(second.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(second.getHeader("RateLimit-Remaining"), equalTo("0"));
+        assertThat(limited.getStatusCode(), equalTo(StatusCodes.TOO_MANY_REQUESTS));
+        assertThat(limited.getHeader("RateLimit-Remaining"), equalTo("0"));
+        assertThat(limited.getHeader("Retry-After"), not(nullValue()));
+    }
+
+    @Test
+    void testRateLimitWithUnknownApiKey() {
+        //given
+        final TestResponse first = TestRequest.get("/limited/key").withHeader("Authorization", UUID.randomUUID().toString()).execute();
+        final TestResponse second = TestRequest.get("/limited/key").withHeader("Authorization", UUID.randomUUID().toString()).execute();
+
+        //when
+        final TestResponse limited = TestRequest.get("/limited/key").withHeader("Authorization", UUID.randomUUID().toString()).execute();
+        final TestResponse authorized = TestRequest.get("/limited/key")
+                .withHeader("Authorization", Application.getInstance(Config.class).getString("application.api.key"))
+                .execute();
+
+        //then
+        assertThat(first.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(second.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(second.getHeader("RateLimit-Remaining"), equalTo("0"));
+        assertThat(limited.getStatusCode(), equalTo(StatusCodes.TOO_MANY_REQUESTS));
+        assertThat(authorized.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(authorized.getHeader("RateLimit-Remaining"), equalTo("1"));
+    }
+
+    @Test
+    void testTimeout() {
+        //given
+        final long start = System.currentTimeMillis();
+
+        //when
+        final TestResponse response = TestRequest.get("/timeout").execute();
+
+        //then
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.SERVICE_UNAVAILABLE));
+        assertThat(System.currentTimeMillis() - start, lessThan(5000L));
+    }
+
+    @Test
+    void testDeadline() {
+        //given
+        final TestResponse response = TestRequest.get("/deadline").execute();
+
+        //then
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getContent(), equalTo("true"));
+    }
+
+    @Test
+    void testETagMismatch() {
+        //given
+        final TestResponse response = TestRequest.get("/etag")
+                .withHeader("If-None-Match", "\"foo\"")
+                .execute();
+
+        //then
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getContent(), equalTo("etag"));
+    }
+
+    @Test
+    void testSuppliedETag() {
+        //given
+        final TestResponse response = TestRequest.get("/version")
+                .withHeader("If-None-Match", "\"v1\"")
+                .execute();
+
+        //then
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.NOT_MODIFIED));
+        assertThat(response.getHeader("ETag"), equalTo("\"v1\""));
+    }
+
+    @Test
+    void testRenderedNotModifiedKeepsCookies() {
+        //given
+        final TestResponse response = TestRequest.get("/versioned")
+                .withHeader("If-None-Match", "\"v2\"")
+                .execute();
+
+        //then
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.NOT_MODIFIED));
+        assertThat(response.getCookie("version"), not(nullValue()));
+    }
+
+    @Test
+    void testRenderedNotModifiedOnlyForGet() {
+        //given
+        final TestResponse response = TestRequest.post("/versioned")
+                .withHeader("If-None-Match", "\"v2\"")
+                .execute();
+
+        //then
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getContent(), equalTo("versioned"));
+    }
+
+    @Test
+    void testStaticMethod() {
+        //given
+        final TestResponse response = TestRequest.get("/static").execute();
+
+        //then
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getContent(), equalTo("static"));
+    }
+
+    @Test
+    void testFile() {
+        //given
+        final TestResponse response = TestRequest.get("/file").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getContentType(), startsWith("text/plain"));
+        assertThat(response.getHeader("Accept-Ranges"), equalTo("bytes"));
+        assertThat(response.getContent(), startsWith("User-agent: *"));
+    }
+
+    @Test
+    void testFileRange() {
+        //given
+        final TestResponse response = TestRequest.get("/file")
+                .withHeader("Range", "bytes=0-9")
+                .execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.PARTIAL_CONTENT));
+        assertThat(response.getHeader("Content-Range"), startsWith("bytes 0-9/"));
+        assertThat(response.getContent(), equalTo("User-agent"));
+    }
+
+    @Test
+    void testStream() {
+        //given
+        final TestResponse response = TestRequest.get("/stream").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getContentType(), startsWith("text/csv"));
+        assertThat(response.getContent(), equalTo("line0\nline1\nline2\n"));
+    }
+
+    @Test
+    void testStreamJson() {
+        //given
+        final TestResponse response = TestRequest.get("/stream/json").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getContentType(), startsWith("application/x-ndjson"));
+        assertThat(response.getContent().lines().count(), equalTo(2L));
+        assertThat(response.getContent(), containsString("\"firstname\":\"foo\""));
+    }
+
     @Test
     void testNotFound() {
         //given
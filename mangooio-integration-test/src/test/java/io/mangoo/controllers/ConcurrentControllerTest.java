@@ -2,6 +2,8 @@ package io.mangoo.controllers;
 
 import com.google.common.net.MediaType;
 import io.mangoo.TestExtension;
+import io.mangoo.core.Application;
+import io.mangoo.models.Metrics;
 import io.mangoo.test.concurrent.ConcurrentRunner;
 import io.mangoo.test.http.TestRequest;
 import io.mangoo.test.http.TestResponse;
@@ -10,9 +12,17 @@ import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
 /**
  * 
  * @author svenkubiak
@@ -38,4 +48,25 @@ class ConcurrentControllerTest {
             return response.getStatusCode() == StatusCodes.OK && response.getContent().equals(uuid + ";Parker;24");
         }, new ConcurrentRunner<>(new AtomicInteger(), TestExtension.THREADS));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCoalescedRequests() throws Exception {
+        //given
+        Metrics metrics = Application.getInstance(Metrics.class);
+        long coalesced = metrics.getCoalescedRequests();
+        List<Future<TestResponse>> futures = new ArrayList<>();
+
+        //when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < TestExtension.THREADS; i++) {
+                futures.add(executor.submit(() -> TestRequest.get("/coalesced").execute()));
+            }
+        }
+
+        //then
+        for (Future<TestResponse> future : futures) {
+            MatcherAssert.assertThat(future.get().getStatusCode(), equalTo(StatusCodes.OK));
+        }
+        MatcherAssert.assertThat(metrics.getCoalescedRequests(), greaterThan(coalesced));
+    }
+}
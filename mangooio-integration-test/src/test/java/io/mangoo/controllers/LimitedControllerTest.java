@@ -0,0 +1,31 @@
+package io.mangoo.controllers;
+
+import io.mangoo.TestExtension;
+import io.mangoo.test.http.TestRequest;
+import io.mangoo.test.http.TestResponse;
+import io.undertow.util.StatusCodes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@ExtendWith({TestExtension.class})
+class LimitedControllerTest {
+    @Test
+    void testClassRateLimitIsShared() {
+        //given
+        TestResponse first = TestRequest.get("/limited/class/first").execute();
+        TestResponse second = TestRequest.get("/limited/class/second").execute();
+
+        //when
+        TestResponse limited = TestRequest.get("/limited/class/first").execute();
+
+        //then
+        assertThat(first.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(first.getHeader("RateLimit-Remaining"), equalTo("1"));
+        assertThat(second.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(second.getHeader("RateLimit-Remaining"), equalTo("0"));
+        assertThat(limited.getStatusCode(), equalTo(StatusCodes.TOO_MANY_REQUESTS));
+    }
+}
@@ -31,4 +31,16 @@ class SessionControllerTest {
         assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
         assertThat(response.getCookie(config.getSessionCookieName()).getName(), equalTo(config.getSessionCookieName()));
     }
+
+    @Test
+    void testWithoutCookies() {
+        //when
+        Config config = Application.getInstance(Config.class);
+        TestResponse response = TestRequest.get("/session/nocookies").execute();
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getCookie(config.getSessionCookieName()), nullValue());
+    }
 }
\ No newline at end of file
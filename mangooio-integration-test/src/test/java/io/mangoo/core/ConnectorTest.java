@@ -0,0 +1,75 @@
+package io.mangoo.core;
+
+import io.mangoo.TestExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.when;
+
+@ExtendWith({TestExtension.class})
+class ConnectorTest {
+    private static final long GB = 1024L * 1024L * 1024L;
+
+    @Test
+    void testDefaults() {
+        //given
+        Connector connector = new Connector(Application.getInstance(Config.class), 4, GB);
+
+        //then
+        assertThat(connector.getIoThreads(), equalTo(4));
+        assertThat(connector.getWorkerThreads(), equalTo(32));
+        assertThat(connector.getBufferSize(), equalTo(16 * 1024 - 20));
+        assertThat(connector.getBacklog(), equalTo(1000));
+        assertThat(connector.getKeepAliveTimeout(), equalTo(60L));
+        assertThat(connector.isHttp2(), equalTo(false));
+        assertThat(connector.getErrors(), empty());
+        assertThat(connector.getSettings().get("I/O threads"), equalTo("4"));
+    }
+
+    @Test
+    void testConfigured() {
+        //given
+        Config config = Mockito.mock(Config.class);
+
+        //when
+        when(config.getConnectorIoThreads()).thenReturn(2);
+        when(config.getConnectorWorkerThreads()).thenReturn(64);
+        when(config.getConnectorBufferSize()).thenReturn(4096);
+        when(config.getConnectorBacklog()).thenReturn(128);
+        when(config.isConnectorHttp2()).thenReturn(true);
+        when(config.getConnectorHttpsHost()).thenReturn("localhost");
+        when(config.getConnectorHttpsPort()).thenReturn(8443);
+        Connector connector = new Connector(config, 8, GB);
+
+        //then
+        assertThat(connector.getIoThreads(), equalTo(2));
+        assertThat(connector.getWorkerThreads(), equalTo(64));
+        assertThat(connector.getBufferSize(), equalTo(4096));
+        assertThat(connector.getBacklog(), equalTo(128));
+        assertThat(connector.isHttp2(), equalTo(true));
+        assertThat(connector.getErrors(), empty());
+        assertThat(connector.getWarnings(), empty());
+    }
+
+    @Test
+    void testValidation() {
+        //given
+        Config config = Mockito.mock(Config.class);
+
+        //when
+        when(config.getConnectorIoThreads()).thenReturn(32);
+        when(config.getConnectorWorkerThreads()).thenReturn(16);
+        when(config.getConnectorBufferSize()).thenReturn(1024 * 1024);
+        when(config.getConnectorBacklog()).thenReturn(-1);
+        Connector connector = new Connector(config, 2, GB / 16);
+
+        //then
+        assertThat(connector.getErrors(), hasSize(2));
+        assertThat(connector.getWarnings(), hasSize(2));
+    }
+}
@@ -2,6 +2,7 @@ package io.mangoo.core;
 
 import io.mangoo.TestExtension;
 import io.mangoo.constants.Header;
+import io.undertow.util.HeaderMap;
 import io.undertow.util.HttpString;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,4 +33,17 @@ class ServerTest {
         assertThat(collect, not(nullValue()));
         assertThat(collect.getFirst().getValue(), equalTo("myFeaturePolicy"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testAddHeaders() {
+        //given
+        HeaderMap headers = new HeaderMap();
+
+        //when
+        Server.addHeaders(headers);
+
+        //then
+        assertThat(headers.getFirst(Header.FEATURE_POLICY), equalTo("myFeaturePolicy"));
+        assertThat(headers.getFirst(Header.X_FRAME_OPTIONS), equalTo("DENY"));
+    }
+}
@@ -36,4 +36,14 @@ class RequestTest {
         assertThat(reqeust.getBody(), equalTo("bar"));
         assertThat(reqeust.getParameter().size(), equalTo(0));
     }
+
+    @Test
+    void testEmptyBody() {
+        //given
+        Request request = new Request();
+
+        //then
+        assertThat(request.getBody(), equalTo(""));
+        assertThat(request.getBodyAsJsonMap().size(), equalTo(0));
+    }
 }
\ No newline at end of file
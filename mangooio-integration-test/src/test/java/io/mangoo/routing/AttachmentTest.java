@@ -4,6 +4,10 @@ import io.mangoo.TestExtension;
 import io.mangoo.admin.AdminController;
 import io.mangoo.core.Application;
 import io.mangoo.i18n.Messages;
+import io.mangoo.routing.bindings.Authentication;
+import io.mangoo.routing.bindings.Flash;
+import io.mangoo.routing.bindings.Form;
+import io.mangoo.routing.bindings.Session;
 import io.mangoo.templating.TemplateEngine;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,10 +15,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
 
 @ExtendWith({TestExtension.class})
 class AttachmentTest {
@@ -52,4 +58,62 @@ class AttachmentTest {
         assertThat(attachment.getRequestParameter(), instanceOf(HashMap.class));
         assertThat(attachment.getTemplateEngine(), instanceOf(TemplateEngine.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testLazySession() {
+        //given
+        Attachment attachment = Attachment.build();
+        AtomicInteger created = new AtomicInteger();
+
+        //when
+        attachment.setSession(() -> {
+            created.incrementAndGet();
+            return Session.create();
+        });
+
+        //then
+        assertThat(attachment.isSessionLoaded(), equalTo(false));
+        assertThat(created.get(), equalTo(0));
+        assertThat(attachment.getSession(), instanceOf(Session.class));
+        assertThat(attachment.getSession(), instanceOf(Session.class));
+        assertThat(attachment.isSessionLoaded(), equalTo(true));
+        assertThat(created.get(), equalTo(1));
+    }
+
+    @Test
+    void testLazyFlashWithForm() {
+        //given
+        Attachment attachment = Attachment.build();
+        Form form = new Form();
+
+        //when
+        attachment.setFlash(() -> {
+            attachment.setForm(form);
+            return Flash.create();
+        });
+
+        //then
+        assertThat(attachment.isFlashLoaded(), equalTo(false));
+        assertThat(attachment.isAuthenticationLoaded(), equalTo(false));
+        assertThat(attachment.getForm(), sameInstance(form));
+        assertThat(attachment.isFlashLoaded(), equalTo(true));
+    }
+
+    @Test
+    void testPersonalized() {
+        //given
+        Attachment attachment = Attachment.build();
+        attachment.setSession(Session::create);
+        attachment.setAuthentication(Authentication::create);
+        attachment.setFlash(Flash::create);
+
+        //when
+        boolean untouched = attachment.isPersonalized(false);
+        attachment.getAuthentication();
+
+        //then
+        assertThat(untouched, equalTo(false));
+        assertThat(attachment.isPersonalized(true), equalTo(false));
+        assertThat(attachment.isPersonalized(false), equalTo(true));
+    }
+}
@@ -0,0 +1,85 @@
+package io.mangoo.routing;
+
+import io.mangoo.TestExtension;
+import io.mangoo.routing.bindings.UnprocessableContent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@ExtendWith({TestExtension.class})
+class BinderTest {
+
+    @Test
+    void testBindPrimitive() {
+        //given
+        Attachment attachment = Attachment.build().withRequestParameter(Map.of("foo", "42"));
+
+        //when
+        Object value = Binder.of("foo", int.class).bind(null, attachment);
+
+        //then
+        assertThat(value, equalTo(42));
+    }
+
+    @Test
+    void testBindPrimitiveDefault() {
+        //given
+        Attachment attachment = Attachment.build().withRequestParameter(Map.of());
+
+        //when
+        Object value = Binder.of("foo", long.class).bind(null, attachment);
+
+        //then
+        assertThat(value, equalTo(0L));
+    }
+
+    @Test
+    void testBindUnprocessable() {
+        //given
+        Attachment attachment = Attachment.build().withRequestParameter(Map.of("foo", "bar"));
+
+        //when
+        Object value = Binder.of("foo", Integer.class).bind(null, attachment);
+
+        //then
+        assertThat(value, instanceOf(UnprocessableContent.class));
+    }
+
+    @Test
+    void testBindBoolean() {
+        //given
+        Attachment attachment = Attachment.build().withRequestParameter(Map.of("foo", "true", "bar", "yes"));
+
+        //then
+        assertThat(Binder.of("foo", Boolean.class).bind(null, attachment), equalTo(Boolean.TRUE));
+        assertThat(Binder.of("bar", boolean.class).bind(null, attachment), instanceOf(UnprocessableContent.class));
+    }
+
+    @Test
+    void testBindLocalDate() {
+        //given
+        Attachment attachment = Attachment.build().withRequestParameter(Map.of("foo", "2024-01-31"));
+
+        //when
+        Object value = Binder.of("foo", LocalDate.class).bind(null, attachment);
+
+        //then
+        assertThat(value, equalTo(LocalDate.of(2024, 1, 31)));
+    }
+
+    @Test
+    void testBindOptional() {
+        //given
+        Attachment attachment = Attachment.build().withRequestParameter(Map.of("foo", "bar"));
+
+        //then
+        assertThat(Binder.of("foo", Optional.class).bind(null, attachment), equalTo(Optional.of("bar")));
+        assertThat(Binder.of("baz", Optional.class).bind(null, attachment), equalTo(Optional.empty()));
+    }
+}
@@ -0,0 +1,77 @@
+package io.mangoo.routing;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import io.mangoo.TestExtension;
+import io.mangoo.cache.CacheProvider;
+import io.mangoo.core.Application;
+import io.mangoo.core.Config;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith({TestExtension.class})
+class ClaimsCacheTest {
+
+    @Test
+    void testDisabled() {
+        //given
+        ClaimsCache claimsCache = new ClaimsCache(Application.getInstance(Config.class), Application.getInstance(CacheProvider.class));
+
+        //when
+        claimsCache.put("session", "cookie", claims(60));
+
+        //then
+        assertThat(claimsCache.isEnabled(), equalTo(false));
+        assertThat(claimsCache.get("session", "cookie"), nullValue());
+    }
+
+    @Test
+    void testGet() {
+        //given
+        ClaimsCache claimsCache = enabled();
+        JWTClaimsSet claims = claims(60);
+
+        //when
+        claimsCache.put("session", "cookie", claims);
+
+        //then
+        assertThat(claimsCache.get("session", "cookie"), equalTo(claims));
+        assertThat(claimsCache.get("authentication", "cookie"), nullValue());
+        assertThat(claimsCache.get("session", "other"), nullValue());
+    }
+
+    @Test
+    void testExpired() {
+        //given
+        ClaimsCache claimsCache = enabled();
+
+        //when
+        claimsCache.put("session", "cookie", claims(-1));
+
+        //then
+        assertThat(claimsCache.get("session", "cookie"), nullValue());
+    }
+
+    private static ClaimsCache enabled() {
+        Config config = Mockito.mock(Config.class);
+        when(config.isCookieCacheEnable()).thenReturn(true);
+        when(config.getCookieCacheSize()).thenReturn(100L);
+
+        return new ClaimsCache(config, Application.getInstance(CacheProvider.class));
+    }
+
+    private static JWTClaimsSet claims(long seconds) {
+        return new JWTClaimsSet.Builder()
+                .subject("foo")
+                .expirationTime(Date.from(Instant.now().plusSeconds(seconds)))
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package io.mangoo.routing;
+
+import controllers.ApplicationController;
+import controllers.ParameterController;
+import filters.HeaderFilter;
+import io.mangoo.TestExtension;
+import io.mangoo.core.Application;
+import io.undertow.util.HttpString;
+import io.undertow.util.StatusCodes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@ExtendWith({TestExtension.class})
+class InvokerTest {
+
+    @Test
+    void testInvoke() throws Exception {
+        //given
+        Invoker invoker = new Invoker(ApplicationController.class.getMethod("text"), List.of(), false);
+
+        //when
+        Response response = invoker.invoke(Application.getInstance(ApplicationController.class));
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.OK));
+        assertThat(response.getBody(), equalTo("foo"));
+    }
+
+    @Test
+    void testFilter() throws Exception {
+        //given
+        Invoker invoker = new Invoker(ApplicationController.class.getMethod("index"), List.of(HeaderFilter.class), false);
+
+        //when
+        Response response = invoker.filter(null, Response.ok());
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getHeader(new HttpString("Content-MD5")), equalTo("12"));
+    }
+
+    @Test
+    void testFilterEndResponse() throws Exception {
+        //given
+        Invoker invoker = new Invoker(ApplicationController.class.getMethod("index"), List.of(HeaderFilter.class), false);
+
+        //when
+        Response response = invoker.filter(null, Response.forbidden().end());
+
+        //then
+        assertThat(response, not(nullValue()));
+        assertThat(response.getStatusCode(), equalTo(StatusCodes.FORBIDDEN));
+        assertThat(response.getHeaders().isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void testParameters() throws Exception {
+        //given
+        Invoker invoker = new Invoker(ParameterController.class.getMethod("stringParam", String.class), List.of(), false);
+
+        //then
+        assertThat(invoker.hasParameters(), equalTo(true));
+        assertThat(invoker.isConstrained(), equalTo(false));
+    }
+
+    @Test
+    void testWithoutParameters() throws Exception {
+        //given
+        Invoker invoker = new Invoker(ApplicationController.class.getMethod("index"), List.of(), false);
+
+        //then
+        assertThat(invoker.hasParameters(), equalTo(false));
+        assertThat(invoker.isConstrained(), equalTo(false));
+    }
+}
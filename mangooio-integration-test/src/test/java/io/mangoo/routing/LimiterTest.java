@@ -0,0 +1,50 @@
+package io.mangoo.routing;
+
+import io.mangoo.TestExtension;
+import io.mangoo.core.Application;
+import io.mangoo.core.Config;
+import io.mangoo.enums.Priority;
+import io.mangoo.models.Metrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+@ExtendWith({TestExtension.class})
+class LimiterTest {
+
+    @Test
+    void testAcquire() {
+        //given
+        Metrics metrics = new Metrics();
+        Limiter limiter = new Limiter(Application.getInstance(Config.class), metrics);
+
+        //when
+        for (int i = 0; i < 60; i++) {
+            limiter.acquire(Priority.LOW);
+        }
+
+        //then
+        assertThat(limiter.getInflight(), equalTo(60));
+        assertThat(limiter.acquire(Priority.LOW), equalTo(false));
+        assertThat(limiter.acquire(Priority.CRITICAL), equalTo(true));
+        assertThat(limiter.getInflight(), equalTo(61));
+        assertThat(metrics.getShedRequests(), equalTo(1L));
+    }
+
+    @Test
+    void testRelease() {
+        //given
+        Limiter limiter = new Limiter(Application.getInstance(Config.class), new Metrics());
+        long start = System.nanoTime();
+
+        //when
+        limiter.acquire(Priority.NORMAL);
+        limiter.release(start);
+
+        //then
+        assertThat(limiter.getInflight(), equalTo(0));
+        assertThat(limiter.getLimit(), equalTo(100));
+    }
+}
@@ -0,0 +1,51 @@
+package io.mangoo.routing;
+
+import io.undertow.server.HttpServerExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+class RequestParametersTest {
+
+    @Test
+    void testGetWithoutMaterializing() {
+        //given
+        HttpServerExchange exchange = new HttpServerExchange(null);
+        exchange.addQueryParam("foo", "bar");
+        exchange.addQueryParam("id", "query");
+        exchange.addPathParam("id", "path");
+
+        //when
+        RequestParameters parameters = new RequestParameters(exchange);
+
+        //then
+        assertThat(parameters.get("foo"), equalTo("bar"));
+        assertThat(parameters.get("id"), equalTo("path"));
+        assertThat(parameters.get("missing"), nullValue());
+        assertThat(parameters.containsKey("foo"), equalTo(true));
+        assertThat(parameters.isMaterialized(), equalTo(false));
+    }
+
+    @Test
+    void testMaterialize() {
+        //given
+        HttpServerExchange exchange = new HttpServerExchange(null);
+        exchange.addQueryParam("foo", "bar");
+        exchange.addQueryParam("id", "query");
+        exchange.addPathParam("id", "path");
+        RequestParameters parameters = new RequestParameters(exchange);
+
+        //when
+        int size = parameters.size();
+        parameters.put("lang", "de");
+
+        //then
+        assertThat(size, equalTo(2));
+        assertThat(parameters.isMaterialized(), equalTo(true));
+        assertThat(parameters.get("id"), equalTo("path"));
+        assertThat(parameters.get("lang"), equalTo("de"));
+        assertThat(exchange.getQueryParameters().containsKey("lang"), equalTo(false));
+    }
+}
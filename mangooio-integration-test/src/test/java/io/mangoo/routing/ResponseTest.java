@@ -10,6 +10,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -219,6 +221,37 @@ class ResponseTest {
         assertThat(response.getContentType(), equalTo(MediaType.PLAIN_TEXT_UTF_8.withoutParameters().toString()));
     }
     
+    @Test
+    void testAndUtf8Body() {
+        //given
+        Response response = Response.ok();
+        ByteBuffer buffer = ByteBuffer.wrap("Grüße".getBytes(StandardCharsets.UTF_8));
+
+        //when
+        response.bodyUtf8(buffer);
+
+        //then
+        assertThat(response.isRendered(), equalTo(false));
+        assertThat(response.getBody(), equalTo("Grüße"));
+        assertThat(response.getBodyBuffer().remaining(), equalTo(7));
+        assertThat(response.getBodyBuffer().remaining(), equalTo(7));
+        assertThat(buffer.remaining(), equalTo(7));
+    }
+
+    @Test
+    void testContentTypeHeader() {
+        //given
+        Response response = Response.ok();
+
+        //when
+        response.bodyJson(List.of("foo"));
+
+        //then
+        assertThat(response.getContentTypeHeader(), equalTo("application/json; charset=UTF-8"));
+        assertThat(response.contentType("text/csv").getContentTypeHeader(), equalTo("text/csv; charset=UTF-8"));
+        assertThat(response.contentType("application/x-foo").getContentTypeHeader(), equalTo("application/x-foo; charset=UTF-8"));
+    }
+
     @Test
     void testAndEmptyBody() throws IOException {
         //given
@@ -1,6 +1,7 @@
 package io.mangoo.routing.bindings;
 
 import io.mangoo.TestExtension;
+import io.mangoo.utils.CommonUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -8,7 +9,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -582,6 +588,66 @@ class FormTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void testDiskBackedFile() throws IOException {
+        // Given
+        Path upload = Files.createTempFile("upload", ".txt");
+        Files.writeString(upload, "disk content");
+        form.addFile("upload", FormFile.of(upload));
+
+        // When
+        FormFile file = form.getFormFile("upload").orElseThrow();
+
+        // Then
+        assertFalse(file.isInMemory());
+        assertEquals(12, file.getSize());
+        assertEquals(upload.toAbsolutePath(), form.getFilePath("upload").orElseThrow());
+        try (InputStream inputStream = form.getFileInputStream("upload").orElseThrow();
+             FileChannel channel = form.getFileChannel("upload").orElseThrow()) {
+            assertEquals("disk content", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+            assertEquals(12, channel.size());
+        }
+        assertArrayEquals("disk content".getBytes(StandardCharsets.UTF_8), form.getFile("upload").orElseThrow());
+
+        // When
+        form.cleanup();
+
+        // Then
+        assertTrue(Files.exists(upload));
+        Files.delete(upload);
+    }
+
+    @Test
+    void testCleanupTemporaryFile() throws IOException {
+        // Given
+        form.addFile("upload", new ByteArrayInputStream("memory content".getBytes(StandardCharsets.UTF_8)));
+        Path path = form.getFilePath("upload").orElseThrow();
+
+        // When
+        form.discard();
+        form.cleanup();
+
+        // Then
+        assertFalse(Files.exists(path));
+    }
+
+    @Test
+    void testValidateFileFromMetadata() throws IOException {
+        // Given
+        Path upload = Files.createTempFile("upload", ".txt");
+        Files.writeString(upload, "plain text content");
+        form.addFile("upload", FormFile.of(upload));
+
+        // When
+        form.expectFileMaxSize("upload", 10);
+        form.expectFileMimeType("upload", List.of("text/plain"));
+
+        // Then
+        assertTrue(form.hasError("upload"));
+        assertFalse(form.isValid());
+        Files.delete(upload);
+    }
+
     @Test
     void testKeep() {
         // Given
@@ -653,4 +719,24 @@ class FormTest {
         // Then
         assertFalse(form.isSubmitted());
     }
+
+    @Test
+    void testSerializeKeepsOnlyInMemoryFiles() throws IOException {
+        // Given
+        Path upload = Files.createTempFile("upload", ".txt");
+        Files.writeString(upload, "disk content");
+        form.addFile("memory", FormFile.of("memory content".getBytes(StandardCharsets.UTF_8)));
+        form.addFile("disk", FormFile.of(upload));
+
+        // When
+        Form restored = CommonUtils.deserializeFromBase64(CommonUtils.serializeToBase64(form));
+
+        // Then
+        FormFile file = restored.getFormFile("memory").orElseThrow();
+        assertTrue(file.isInMemory());
+        assertArrayEquals("memory content".getBytes(StandardCharsets.UTF_8), file.getBytes());
+        assertArrayEquals("memory content".getBytes(StandardCharsets.UTF_8), file.getHeader());
+        assertTrue(restored.getFormFile("disk").isEmpty());
+        Files.delete(upload);
+    }
 }
@@ -0,0 +1,37 @@
+package io.mangoo.routing.handlers;
+
+import io.mangoo.TestExtension;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import io.undertow.util.Methods;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+@ExtendWith({TestExtension.class})
+class FormHandlerTest {
+
+    @Test
+    void testParseWithoutForm() throws Exception {
+        //given
+        AtomicBoolean called = new AtomicBoolean();
+        HttpServerExchange get = new HttpServerExchange(null);
+        get.setRequestMethod(Methods.GET);
+        HttpServerExchange json = new HttpServerExchange(null);
+        json.setRequestMethod(Methods.POST);
+        json.getRequestHeaders().put(Headers.CONTENT_TYPE, "application/json");
+
+        //when
+        boolean parsedGet = FormHandler.parse(get, exchange -> called.set(true));
+        boolean parsedJson = FormHandler.parse(json, exchange -> called.set(true));
+
+        //then
+        assertThat(parsedGet, equalTo(false));
+        assertThat(parsedJson, equalTo(false));
+        assertThat(called.get(), equalTo(false));
+    }
+}
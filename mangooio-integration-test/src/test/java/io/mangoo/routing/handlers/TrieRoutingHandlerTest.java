@@ -0,0 +1,134 @@
+package io.mangoo.routing.handlers;
+
+import io.mangoo.enums.Http;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HttpString;
+import io.undertow.util.Methods;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TrieRoutingHandlerTest {
+    private final AtomicReference<String> handled = new AtomicReference<>();
+
+    @Test
+    void testStaticRoutes() throws Exception {
+        //given
+        TrieRoutingHandler router = new TrieRoutingHandler(handler("fallback"))
+                .add(Http.GET, "/", handler("index"))
+                .add(Http.GET, "/users", handler("users"))
+                .add(Http.POST, "/users", handler("create"));
+
+        //then
+        assertThat(route(router, Methods.GET, "/"), equalTo("index"));
+        assertThat(route(router, Methods.GET, "/users"), equalTo("users"));
+        assertThat(route(router, Methods.GET, "/users/"), equalTo("users"));
+        assertThat(route(router, Methods.POST, "/users"), equalTo("create"));
+        assertThat(route(router, Methods.PUT, "/users"), equalTo("fallback"));
+        assertThat(route(router, Methods.GET, "/user"), equalTo("fallback"));
+        assertThat(route(router, Methods.GET, "/users/1"), equalTo("fallback"));
+    }
+
+    @Test
+    void testPathParameters() throws Exception {
+        //given
+        TrieRoutingHandler router = new TrieRoutingHandler(handler("fallback"))
+                .add(Http.GET, "/users/{id}", handler("user"))
+                .add(Http.GET, "/users/{user}/posts/{post}", handler("post"));
+        HttpServerExchange exchange = exchange(Methods.GET, "/users/42/posts/foo");
+
+        //when
+        router.handleRequest(exchange);
+
+        //then
+        assertThat(handled.get(), equalTo("post"));
+        assertThat(exchange.getQueryParameters().get("user").getFirst(), equalTo("42"));
+        assertThat(exchange.getQueryParameters().get("post").getFirst(), equalTo("foo"));
+        assertThat(route(router, Methods.GET, "/users/42"), equalTo("user"));
+        assertThat(route(router, Methods.GET, "/users//posts/foo"), equalTo("fallback"));
+    }
+
+    @Test
+    void testStaticBeforeParameter() throws Exception {
+        //given
+        TrieRoutingHandler router = new TrieRoutingHandler(handler("fallback"))
+                .add(Http.GET, "/users/{id}", handler("user"))
+                .add(Http.GET, "/users/me", handler("me"))
+                .add(Http.POST, "/users/me/avatar", handler("avatar"));
+
+        //then
+        assertThat(route(router, Methods.GET, "/users/me"), equalTo("me"));
+        assertThat(route(router, Methods.GET, "/users/you"), equalTo("user"));
+        assertThat(route(router, Methods.POST, "/users/me/avatar"), equalTo("avatar"));
+        assertThat(route(router, Methods.POST, "/users/me"), equalTo("fallback"));
+    }
+
+    @Test
+    void testExactAndPrefixPaths() throws Exception {
+        //given
+        TrieRoutingHandler router = new TrieRoutingHandler(handler("fallback"))
+                .add(Http.GET, "/assets/{file}", handler("route"))
+                .addExactPath("/events", handler("events"))
+                .addPrefixPath("/assets/", handler("assets"))
+                .addPrefixPath("/assets/admin/", handler("admin"));
+        HttpServerExchange exchange = exchange(Methods.GET, "/assets/admin/css/style.css");
+
+        //when
+        router.handleRequest(exchange);
+
+        //then
+        assertThat(handled.get(), equalTo("admin"));
+        assertThat(exchange.getRelativePath(), equalTo("/css/style.css"));
+        assertThat(route(router, Methods.POST, "/events"), equalTo("events"));
+        assertThat(route(router, Methods.GET, "/assets/app.js"), equalTo("assets"));
+        assertThat(route(router, Methods.GET, "/assetsfoo"), equalTo("fallback"));
+    }
+
+    @Test
+    void testManyRoutes() throws Exception {
+        //given
+        TrieRoutingHandler router = new TrieRoutingHandler(handler("fallback"));
+        for (int i = 0; i < 10000; i++) {
+            router.add(Http.GET, "/api/resource" + i + "/{id}", handler("resource" + i));
+        }
+
+        //then
+        assertThat(route(router, Methods.GET, "/api/resource0/1"), equalTo("resource0"));
+        assertThat(route(router, Methods.GET, "/api/resource4711/1"), equalTo("resource4711"));
+        assertThat(route(router, Methods.GET, "/api/resource9999/1"), equalTo("resource9999"));
+        assertThat(route(router, Methods.GET, "/api/resource10000/1"), equalTo("fallback"));
+    }
+
+    @Test
+    void testDuplicateRoute() {
+        //given
+        TrieRoutingHandler router = new TrieRoutingHandler(handler("fallback"))
+                .add(Http.GET, "/users/{id}", handler("user"));
+
+        //then
+        assertThrows(IllegalStateException.class, () -> router.add(Http.GET, "/users/{name}", handler("name")));
+    }
+
+    private HttpHandler handler(String name) {
+        return exchange -> handled.set(name);
+    }
+
+    private String route(TrieRoutingHandler router, HttpString method, String path) throws Exception {
+        router.handleRequest(exchange(method, path));
+        return handled.get();
+    }
+
+    private static HttpServerExchange exchange(HttpString method, String path) {
+        HttpServerExchange exchange = new HttpServerExchange(null);
+        exchange.setRequestMethod(method);
+        exchange.setRelativePath(path);
+        exchange.setResolvedPath("");
+
+        return exchange;
+    }
+}
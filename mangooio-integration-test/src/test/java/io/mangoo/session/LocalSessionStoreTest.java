@@ -0,0 +1,59 @@
+package io.mangoo.session;
+
+import io.mangoo.TestExtension;
+import io.mangoo.cache.CacheProvider;
+import io.mangoo.core.Application;
+import io.mangoo.core.Config;
+import io.mangoo.records.SessionData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+@ExtendWith({TestExtension.class})
+class LocalSessionStoreTest {
+
+    @Test
+    void testPut() {
+        //given
+        LocalSessionStore sessionStore = new LocalSessionStore(Application.getInstance(Config.class), Application.getInstance(CacheProvider.class));
+        SessionData sessionData = new SessionData(Map.of("foo", "bar"), "csrf", Instant.now().plusSeconds(60));
+
+        //when
+        sessionStore.put("id", sessionData);
+
+        //then
+        assertThat(sessionStore.get("id"), equalTo(sessionData));
+        assertThat(sessionStore.get("other"), nullValue());
+    }
+
+    @Test
+    void testRemove() {
+        //given
+        LocalSessionStore sessionStore = new LocalSessionStore(Application.getInstance(Config.class), Application.getInstance(CacheProvider.class));
+        sessionStore.put("id", new SessionData(Map.of("foo", "bar"), "csrf", Instant.now().plusSeconds(60)));
+
+        //when
+        sessionStore.remove("id");
+
+        //then
+        assertThat(sessionStore.get("id"), nullValue());
+    }
+
+    @Test
+    void testExpired() {
+        //given
+        LocalSessionStore sessionStore = new LocalSessionStore(Application.getInstance(Config.class), Application.getInstance(CacheProvider.class));
+
+        //when
+        sessionStore.put("id", new SessionData(Map.of("foo", "bar"), "csrf", Instant.now().minusSeconds(1)));
+
+        //then
+        assertThat(sessionStore.get("id"), nullValue());
+    }
+}
@@ -0,0 +1,54 @@
+package io.mangoo.utils;
+
+import io.mangoo.utils.internal.InFlight;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+class InFlightTest {
+
+    @Test
+    void testAwait() {
+        //given
+        InFlight.start("completing", () -> sleep(Duration.ofMillis(100)));
+
+        //when
+        var pending = InFlight.await(System.nanoTime() + Duration.ofSeconds(5).toNanos());
+
+        //then
+        assertThat(pending.get("completing"), nullValue());
+    }
+
+    @Test
+    void testAwaitCutOff() {
+        //given
+        CountDownLatch latch = new CountDownLatch(1);
+        InFlight.start("blocking", () -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        //when
+        var pending = InFlight.await(System.nanoTime() + Duration.ofMillis(100).toNanos());
+        latch.countDown();
+
+        //then
+        assertThat(pending.get("blocking"), equalTo(1));
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.mangoo.utils;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import io.mangoo.exceptions.MangooJwtException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Execution(ExecutionMode.CONCURRENT)
+class JwtCodecTest {
+    private static final byte[] SECRET = CommonUtils.randomString(64).getBytes(StandardCharsets.UTF_8);
+    private static final byte[] KEY = CommonUtils.randomString(64).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testEncodeAndDecode() throws MangooJwtException {
+        //given
+        JwtCodec codec = codec("session", 3600);
+
+        //when
+        String jwt = codec.encode("subject", 60, Map.of("foo", "bar"));
+        JWTClaimsSet claims = codec.decode(jwt);
+
+        //then
+        assertThat(claims.getSubject(), equalTo("subject"));
+        assertThat(claims.getClaim("foo"), equalTo("bar"));
+        assertThat(claims.getAudience().getFirst(), equalTo("session"));
+    }
+
+    @Test
+    void testCompatibleWithJwtUtils() throws MangooJwtException {
+        //given
+        JwtCodec codec = codec("session", 3600);
+        JwtUtils.JwtData jwtData = jwtData("session", 3600).withSubject("subject");
+
+        //when
+        String encoded = codec.encode("subject", 60, Map.of());
+        String created = JwtUtils.createJwt(jwtData);
+
+        //then
+        assertThat(JwtUtils.parseJwt(encoded, jwtData).getSubject(), equalTo("subject"));
+        assertThat(codec.decode(created).getSubject(), equalTo("subject"));
+    }
+
+    @Test
+    void testConcurrentUse() {
+        //given
+        JwtCodec codec = codec("session", 3600);
+
+        //when
+        long decoded = IntStream.range(0, 100)
+                .parallel()
+                .mapToObj(i -> {
+                    try {
+                        return codec.decode(codec.encode("subject" + i, 60, Map.of())).getSubject();
+                    } catch (MangooJwtException e) {
+                        return null;
+                    }
+                })
+                .filter(subject -> subject != null && subject.startsWith("subject"))
+                .count();
+
+        //then
+        assertThat(decoded, equalTo(100L));
+    }
+
+    @Test
+    void testDecodeWithOtherAudience() throws MangooJwtException {
+        //given
+        String jwt = codec("session", 3600).encode("subject", 60, Map.of());
+
+        //then
+        assertThrows(MangooJwtException.class, () -> codec("flash", 3600).decode(jwt));
+    }
+
+    @Test
+    void testDecodeWithExceededLifetime() throws MangooJwtException {
+        //given
+        String jwt = codec("session", 3600).encode("subject", 120, Map.of());
+
+        //then
+        assertThrows(MangooJwtException.class, () -> codec("session", 60).decode(jwt));
+    }
+
+    private static JwtCodec codec(String audience, long ttlSeconds) {
+        try {
+            return JwtCodec.of(jwtData(audience, ttlSeconds));
+        } catch (MangooJwtException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static JwtUtils.JwtData jwtData(String audience, long ttlSeconds) {
+        return JwtUtils.JwtData.create()
+                .withSecret(SECRET)
+                .withKey(KEY)
+                .withIssuer("issuer")
+                .withAudience(audience)
+                .withTtlSeconds(ttlSeconds);
+    }
+}
@@ -0,0 +1,92 @@
+package io.mangoo.utils;
+
+import io.mangoo.exceptions.MangooJwtException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Execution(ExecutionMode.CONCURRENT)
+class SessionCodecTest {
+    private static final byte[] SECRET = CommonUtils.randomString(64).getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PREVIOUS_SECRET = CommonUtils.randomString(64).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testEncodeAndDecode() throws MangooJwtException {
+        //given
+        SessionCodec codec = new SessionCodec(SECRET, List.of(), "issuer", "session", 3600);
+        Instant expires = Instant.now().plusSeconds(60).withNano(0);
+
+        //when
+        String value = codec.encode(Map.of("foo", "bar", "ümlaut", "välue"), "csrf", expires);
+        SessionCodec.Data data = codec.decode(value);
+
+        //then
+        assertThat(SessionCodec.isCompact(value), equalTo(true));
+        assertThat(data.values(), equalTo(Map.of("foo", "bar", "ümlaut", "välue")));
+        assertThat(data.csrf(), equalTo("csrf"));
+        assertThat(data.expires(), equalTo(expires));
+    }
+
+    @Test
+    void testSmallerThanJwt() throws MangooJwtException {
+        //given
+        SessionCodec codec = new SessionCodec(SECRET, List.of(), "issuer", "session", 3600);
+        JwtUtils.JwtData jwtData = JwtUtils.JwtData.create()
+                .withSecret(SECRET)
+                .withKey(SECRET)
+                .withIssuer("issuer")
+                .withAudience("session")
+                .withSubject(CommonUtils.uuidV6())
+                .withTtlSeconds(60)
+                .withClaims(Map.of("foo", "bar", "csrf", CommonUtils.randomString(32)));
+
+        //when
+        String compact = codec.encode(Map.of("foo", "bar"), CommonUtils.randomString(32), Instant.now().plusSeconds(60));
+        String jwt = JwtUtils.createJwt(jwtData);
+
+        //then
+        assertThat(compact.length(), lessThan(jwt.length() / 3));
+        assertThat(SessionCodec.isCompact(jwt), equalTo(false));
+    }
+
+    @Test
+    void testKeyRotation() throws MangooJwtException {
+        //given
+        String value = new SessionCodec(PREVIOUS_SECRET, List.of(), "issuer", "session", 3600)
+                .encode(Map.of("foo", "bar"), "csrf", Instant.now().plusSeconds(60));
+
+        //when
+        SessionCodec rotated = new SessionCodec(SECRET, List.of(PREVIOUS_SECRET), "issuer", "session", 3600);
+        SessionCodec current = new SessionCodec(SECRET, List.of(), "issuer", "session", 3600);
+
+        //then
+        assertThat(rotated.decode(value).values().get("foo"), equalTo("bar"));
+        assertThrows(MangooJwtException.class, () -> current.decode(value));
+    }
+
+    @Test
+    void testInvalidRecords() throws MangooJwtException {
+        //given
+        SessionCodec codec = new SessionCodec(SECRET, List.of(), "issuer", "session", 3600);
+        String value = codec.encode(Map.of("foo", "bar"), "csrf", Instant.now().plusSeconds(60));
+        int index = value.length() / 2;
+        String tampered = value.substring(0, index) + (value.charAt(index) == 'A' ? 'B' : 'A') + value.substring(index + 1);
+
+        //then
+        assertThrows(MangooJwtException.class, () -> new SessionCodec(SECRET, List.of(), "issuer", "flash", 3600).decode(value));
+        assertThrows(MangooJwtException.class, () -> codec.decode(tampered));
+        assertThrows(MangooJwtException.class, () -> codec.decode("AAAA"));
+        assertThrows(MangooJwtException.class, () -> codec.decode(codec.encode(Map.of(), "csrf", Instant.now().minusSeconds(60))));
+        assertThrows(MangooJwtException.class, () -> codec.decode(codec.encode(Map.of(), "csrf", Instant.now().plusSeconds(7200))));
+    }
+}
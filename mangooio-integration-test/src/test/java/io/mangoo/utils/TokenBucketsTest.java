@@ -0,0 +1,57 @@
+package io.mangoo.utils;
+
+import io.mangoo.utils.internal.TokenBuckets;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+
+class TokenBucketsTest {
+
+    @Test
+    void testTryAcquire() {
+        //given
+        TokenBuckets buckets = new TokenBuckets(2, 60_000, 1024);
+
+        //when
+        long first = buckets.tryAcquire("127.0.0.1");
+        long second = buckets.tryAcquire("127.0.0.1");
+        long third = buckets.tryAcquire("127.0.0.1");
+        long other = buckets.tryAcquire("127.0.0.2");
+
+        //then
+        assertThat(first, equalTo(1L));
+        assertThat(second, equalTo(0L));
+        assertThat(third, lessThan(-1L));
+        assertThat(other, equalTo(1L));
+    }
+
+    @Test
+    void testConcurrentTryAcquire() throws InterruptedException {
+        //given
+        TokenBuckets buckets = new TokenBuckets(1000, 86_400_000, 1024);
+        AtomicInteger acquired = new AtomicInteger();
+
+        //when
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 5000; i++) {
+                executor.execute(() -> {
+                    if (buckets.tryAcquire("key") >= 0) {
+                        acquired.incrementAndGet();
+                    }
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        //then
+        assertThat(acquired.get(), equalTo(1000));
+    }
+}